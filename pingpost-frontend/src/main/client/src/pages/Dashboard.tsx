@@ -56,20 +56,7 @@ const Dashboard = () => {
       setTotalPages(response.data.totalPages);
       setError(null);
       // Fetch like state for each blog
-      const likeStatesObj: Record<number, { liked: boolean; count: number }> = {};
-      await Promise.all(
-        response.data.content.map(async (blog) => {
-          try {
-            const [liked, count] = await Promise.all([
-              likeService.isBlogLikedByUser(blog.id),
-              likeService.getLikeCount(blog.id),
-            ]);
-            likeStatesObj[blog.id] = { liked, count };
-          } catch {
-            likeStatesObj[blog.id] = { liked: false, count: 0 };
-          }
-        })
-      );
+      const likeStatesObj = await likeService.getLikeStates(response.data.content);
       setLikeStates(likeStatesObj);
     } catch {
       setError('Failed to fetch blogs');
@@ -83,20 +83,7 @@ const Profile = () => {
       );
       setBlogs(response.data?.content ?? []);
       // Fetch like state for each blog
-      const likeStatesObj: Record<number, { liked: boolean; count: number }> = {};
-      await Promise.all(
-        response.data.content.map(async (blog) => {
-          try {
-            const [liked, count] = await Promise.all([
-              likeService.isBlogLikedByUser(blog.id),
-              likeService.getLikeCount(blog.id),
-            ]);
-            likeStatesObj[blog.id] = { liked, count };
-          } catch {
-            likeStatesObj[blog.id] = { liked: false, count: 0 };
-          }
-        })
-      );
+      const likeStatesObj = await likeService.getLikeStates(response.data.content);
       setLikeStates(likeStatesObj);
     } catch (error) {
       console.error('Failed to fetch user blogs:', error);
@@ -151,20 +138,7 @@ const Profile = () => {
   useEffect(() => {
     if (blogs.length === 0) return;
     const fetchLikeStates = async () => {
-      const likeStatesObj: Record<number, { liked: boolean; count: number }> = {};
-      await Promise.all(
-        blogs.map(async (blog) => {
-          try {
-            const [liked, count] = await Promise.all([
-              likeService.isBlogLikedByUser(blog.id),
-              likeService.getLikeCount(blog.id),
-            ]);
-            likeStatesObj[blog.id] = { liked, count };
-          } catch {
-            likeStatesObj[blog.id] = { liked: false, count: 0 };
-          }
-        })
-      );
+      const likeStatesObj = await likeService.getLikeStates(blogs);
       setLikeStates(likeStatesObj);
     };
     fetchLikeStates();
@@ -173,20 +147,7 @@ const Profile = () => {
   useEffect(() => {
     if (likedBlogs.length === 0) return;
     const fetchLikedBlogStates = async () => {
-      const likeStatesObj: Record<number, { liked: boolean; count: number }> = {};
-      await Promise.all(
-        likedBlogs.map(async (blog) => {
-          try {
-            const [liked, count] = await Promise.all([
-              likeService.isBlogLikedByUser(blog.id),
-              likeService.getLikeCount(blog.id),
-            ]);
-            likeStatesObj[blog.id] = { liked, count };
-          } catch {
-            likeStatesObj[blog.id] = { liked: false, count: 0 };
-          }
-        })
-      );
+      const likeStatesObj = await likeService.getLikeStates(likedBlogs);
       setLikeStates((prev) => ({ ...prev, ...likeStatesObj }));
     };
     fetchLikedBlogStates();
@@ -256,7 +217,7 @@ const Profile = () => {
       const data = type === 'followers'
         ? await userService.getFollowers(user.username)
         : await userService.getFollowing(user.username);
-      setUserList(data);
+      setUserList(data.content);
     } catch {
       setListError('Failed to load list');
       setUserList([]);
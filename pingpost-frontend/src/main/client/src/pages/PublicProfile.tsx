@@ -30,6 +30,8 @@ const PublicProfile: React.FC = () => {
   const { user: currentUser } = useAuth();
   const [profile, setProfile] = useState<PublicUserProfileDTO | null>(null);
   const [blogs, setBlogs] = useState<BlogResponse[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | undefined>(undefined);
+  const [moreLoading, setMoreLoading] = useState(false);
   const [followers, setFollowers] = useState<number>(0);
   const [following, setFollowing] = useState<number>(0);
   const [loading, setLoading] = useState(true);
@@ -56,7 +58,8 @@ const PublicProfile: React.FC = () => {
         setFollowers(followersCount);
         setFollowing(followingCount);
         setProfile(userProfile);
-        setBlogs(userBlogs);
+        setBlogs(userBlogs.content);
+        setNextCursor(userBlogs.hasNext ? userBlogs.nextCursor : undefined);
         if (currentUser && currentUser.username !== username) {
           const following = await userService.isFollowing(username);
           setIsFollowing(following);
@@ -68,6 +71,20 @@ const PublicProfile: React.FC = () => {
       .finally(() => setLoading(false));
   }, [username, currentUser]);
 
+  const handleLoadMore = async () => {
+    if (!username || !nextCursor) return;
+    setMoreLoading(true);
+    try {
+      const page = await blogService.getBlogsByUser(username, nextCursor);
+      setBlogs((prev) => [...prev, ...page.content]);
+      setNextCursor(page.hasNext ? page.nextCursor : undefined);
+    } catch {
+      setError('Failed to load more blogs');
+    } finally {
+      setMoreLoading(false);
+    }
+  };
+
   const handleFollow = async () => {
     if (!profile) return;
     setFollowLoading(true);
@@ -99,7 +116,7 @@ const PublicProfile: React.FC = () => {
       const data = type === 'followers'
         ? await userService.getFollowers(username)
         : await userService.getFollowing(username);
-      setUserList(data);
+      setUserList(data.content);
     } catch {
       setListError('Failed to load list');
       setUserList([]);
@@ -308,6 +325,13 @@ const PublicProfile: React.FC = () => {
               ))}
           </Box>
         )}
+        {nextCursor && (
+          <Box sx={{ display: 'flex', justifyContent: 'center', mt: 3 }}>
+            <Button variant="outlined" onClick={handleLoadMore} disabled={moreLoading}>
+              {moreLoading ? 'Loading...' : 'Load more'}
+            </Button>
+          </Box>
+        )}
       </Box>
       <Dialog open={!!openList} onClose={handleCloseList} fullWidth maxWidth="xs">
         <DialogTitle>{openList === 'followers' ? 'Followers' : 'Following'}</DialogTitle>
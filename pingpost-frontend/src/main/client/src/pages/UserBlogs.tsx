@@ -6,6 +6,7 @@ import {
   Typography,
   CircularProgress,
   Paper,
+  Button,
 } from '@mui/material';
 import { blogService } from '../services/api';
 import type { Blog } from '../types';
@@ -13,6 +14,7 @@ import type { Blog } from '../types';
 const UserBlogs = () => {
   const { username } = useParams<{ username: string }>();
   const [blogs, setBlogs] = useState<Blog[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | undefined>(undefined);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
 
@@ -22,7 +24,8 @@ const UserBlogs = () => {
       try {
         setLoading(true);
         const userBlogs = await blogService.getBlogsByUser(username);
-        setBlogs(userBlogs);
+        setBlogs(userBlogs.content);
+        setNextCursor(userBlogs.hasNext ? userBlogs.nextCursor : undefined);
         setError(null);
       } catch {
         setError('Failed to fetch blogs');
@@ -34,6 +37,20 @@ const UserBlogs = () => {
     fetchBlogs();
   }, [username]);
 
+  const loadMore = async () => {
+    if (!username || !nextCursor) return;
+    try {
+      setLoading(true);
+      const page = await blogService.getBlogsByUser(username, nextCursor);
+      setBlogs((prev) => [...prev, ...page.content]);
+      setNextCursor(page.hasNext ? page.nextCursor : undefined);
+    } catch {
+      setError('Failed to fetch blogs');
+    } finally {
+      setLoading(false);
+    }
+  };
+
   return (
     <Container maxWidth="md" sx={{ mt: 4, mb: 4 }}>
       <Paper sx={{ p: 4, borderRadius: 2 }}>
@@ -58,6 +75,11 @@ const UserBlogs = () => {
             </Typography>
           </Box>
         ))}
+        {nextCursor && !loading && (
+          <Box sx={{ display: 'flex', justifyContent: 'center' }}>
+            <Button variant="outlined" onClick={loadMore}>Load more</Button>
+          </Box>
+        )}
       </Paper>
     </Container>
   );
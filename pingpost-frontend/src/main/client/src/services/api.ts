@@ -1,5 +1,5 @@
 import axios from 'axios';
-import type { LoginRequest, RegisterRequest, AuthResponse, ApiResponse, User, Blog, Comment, PaginatedResponse, BlogResponse, PublicUserProfileDTO, CommentResponse } from '../types';
+import type { LoginRequest, RegisterRequest, AuthResponse, ApiResponse, User, Blog, Comment, PaginatedResponse, CursorPaginatedResponse, BlogResponse, PublicUserProfileDTO, CommentResponse } from '../types';
 
 const API_URL = 'http://localhost:8080/api';
 
@@ -115,6 +115,11 @@ export const blogService = {
     return response.data;
   },
 
+  getBlogsByCursor: async (cursor = '', size = 10): Promise<CursorPaginatedResponse<Blog>> => {
+    const response = await api.get<CursorPaginatedResponse<Blog>>(`/blogs?cursor=${encodeURIComponent(cursor)}&size=${size}`);
+    return response.data;
+  },
+
   getBlog: async (id: number): Promise<Blog> => {
     const response = await api.get<BlogResponse>(`/blogs/${id}`);
     return response.data;
@@ -134,8 +139,10 @@ export const blogService = {
     await api.delete(`/blogs/${id}`);
   },
 
-  getBlogsByUser: async (username: string): Promise<Blog[]> => {
-    const response = await api.get<Blog[]>(`/blogs/user/${username}`);
+  getBlogsByUser: async (username: string, cursor = '', size = 10): Promise<CursorPaginatedResponse<Blog>> => {
+    const response = await api.get<CursorPaginatedResponse<Blog>>(`/blogs/user/${encodeURIComponent(username)}`, {
+      params: { cursor: cursor || undefined, size }
+    });
     return response.data;
   },
 };
@@ -179,6 +186,27 @@ export const likeService = {
     const response = await api.get<boolean>(`/blogs/${blogId}/likes/is-liked`);
     return response.data;
   },
+
+  getLikedBlogIds: async (blogIds: number[]): Promise<number[]> => {
+    if (blogIds.length === 0) return [];
+    const response = await api.get<number[]>('/blogs/liked', { params: { ids: blogIds.join(',') } });
+    return response.data;
+  },
+
+  // Like state for a whole page with one request; counts come with the blogs themselves
+  getLikeStates: async (blogs: Blog[]): Promise<Record<number, { liked: boolean; count: number }>> => {
+    let liked = new Set<number>();
+    try {
+      liked = new Set(await likeService.getLikedBlogIds(blogs.map((blog) => blog.id)));
+    } catch {
+      // Signed out: nothing is liked
+    }
+    const states: Record<number, { liked: boolean; count: number }> = {};
+    blogs.forEach((blog) => {
+      states[blog.id] = { liked: liked.has(blog.id), count: blog.likeCount ?? 0 };
+    });
+    return states;
+  },
 };
 
 export interface UserProfileRequest {
@@ -226,12 +254,16 @@ export const userService = {
     const response = await api.get<boolean>(`/users/${encodeURIComponent(username)}/is-following`);
     return response.data;
   },
-  getFollowers: async (username: string): Promise<PublicUserProfileDTO[]> => {
-    const response = await api.get<PublicUserProfileDTO[]>(`/users/${encodeURIComponent(username)}/followers`);
+  getFollowers: async (username: string, page: number = 0, size: number = 20): Promise<PaginatedResponse<PublicUserProfileDTO>> => {
+    const response = await api.get<PaginatedResponse<PublicUserProfileDTO>>(`/users/${encodeURIComponent(username)}/followers`, {
+      params: { page, size }
+    });
     return response.data;
   },
-  getFollowing: async (username: string): Promise<PublicUserProfileDTO[]> => {
-    const response = await api.get<PublicUserProfileDTO[]>(`/users/${encodeURIComponent(username)}/following`);
+  getFollowing: async (username: string, page: number = 0, size: number = 20): Promise<PaginatedResponse<PublicUserProfileDTO>> => {
+    const response = await api.get<PaginatedResponse<PublicUserProfileDTO>>(`/users/${encodeURIComponent(username)}/following`, {
+      params: { page, size }
+    });
     return response.data;
   },
 };
@@ -92,6 +92,13 @@ export interface PaginatedResponse<T> {
   number: number;
 }
 
+export interface CursorPaginatedResponse<T> {
+  content: T[];
+  nextCursor?: string;
+  hasNext: boolean;
+  size: number;
+}
+
 export interface UserProfileRequest {
   fullName: string;
   bio: string;
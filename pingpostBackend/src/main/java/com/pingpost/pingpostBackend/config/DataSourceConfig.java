@@ -0,0 +1,37 @@
+package com.pingpost.pingpostBackend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Boot backs off its DataSource once an R2DBC ConnectionFactory exists, so JPA's pool is declared here
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // Wrapped after the pool is configured, so JPA, JdbcTemplate and Flyway all run through the proxy
+    @Bean
+    public static BeanPostProcessor sqlStatementMetricsProxy(ObjectProvider<SqlStatementMetrics> sqlStatementMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource dataSource)) return bean;
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(sqlStatementMetrics.getObject())
+                        .build();
+            }
+        };
+    }
+}
@@ -1,7 +1,9 @@
 package com.pingpost.pingpostBackend.config;
 
 import com.pingpost.pingpostBackend.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -11,6 +13,8 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -26,15 +30,25 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final AuthenticationProvider authenticationProvider;
 
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(auth -> auth
+                // Async dispatches of streaming responses were already authorized on the original request
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/auth/**", "/v1/api-docs/**", "/swagger-ui/**").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                // Scraped over the management port, which stays off the public network
+                .requestMatchers(onPort(managementPort, "/actuator/prometheus")).permitAll()
+                .requestMatchers("/api/blogs/liked").authenticated()
                 .requestMatchers("/api/blogs").permitAll()
                 .requestMatchers("/api/blogs/{id}").permitAll()
+                .requestMatchers("/api/reactive/blogs", "/api/reactive/blogs/{id}").permitAll()
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session
@@ -46,6 +60,11 @@ public class SecurityConfig {
         return http.build();
     }
 
+    static RequestMatcher onPort(int port, String pattern) {
+        AntPathRequestMatcher path = new AntPathRequestMatcher(pattern);
+        return request -> request.getLocalPort() == port && path.matches(request);
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
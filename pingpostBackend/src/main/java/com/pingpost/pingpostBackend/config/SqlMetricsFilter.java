@@ -0,0 +1,128 @@
+package com.pingpost.pingpostBackend.config;
+
+import com.pingpost.pingpostBackend.exception.ExcessiveSqlStatementsException;
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Records how many SQL statements each request ran and how long they took, per endpoint, next
+ * to Boot's http.server.requests. Ordered inside the server observation filter, so the counts
+ * also land on the request's span.
+ * <p>
+ * Requests that run more than {@code max-statements}, or one statement shape more than
+ * {@code max-repeats} times, are flagged as likely N+1s: logged with the endpoint and the
+ * repeated shapes, or, with {@code fail} set as in tests, rejected with an
+ * {@link ExcessiveSqlStatementsException}. The request's counts stay available under
+ * {@link #STATEMENTS_ATTRIBUTE} so tests can assert a budget per endpoint.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class SqlMetricsFilter extends OncePerRequestFilter {
+    public static final String STATEMENTS_ATTRIBUTE = SqlMetricsFilter.class.getName() + ".statements";
+    private static final Logger log = LoggerFactory.getLogger(SqlMetricsFilter.class);
+
+    private final SqlStatementMetrics sqlStatementMetrics;
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final int maxRepeats;
+    private final boolean fail;
+
+    public SqlMetricsFilter(
+            SqlStatementMetrics sqlStatementMetrics,
+            MeterRegistry meterRegistry,
+            @Value("${application.sql.guard.max-statements:30}") int maxStatements,
+            @Value("${application.sql.guard.max-repeats:10}") int maxRepeats,
+            @Value("${application.sql.guard.fail:false}") boolean fail) {
+        this.sqlStatementMetrics = sqlStatementMetrics;
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+        this.fail = fail;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementMetrics.RequestStatements statements = sqlStatementMetrics.begin();
+        request.setAttribute(STATEMENTS_ATTRIBUTE, statements);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            sqlStatementMetrics.end();
+            record(request, statements);
+            // A failing request already carries its own exception
+            if (completed) guard(request, statements);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementMetrics.RequestStatements statements) {
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements run per request")
+                .baseUnit("statements")
+                .tags("method", request.getMethod(), "uri", uri(request))
+                .register(meterRegistry)
+                .record(statements.count());
+        Timer.builder("http.server.requests.sql.time")
+                .description("JDBC time per request")
+                .tags("method", request.getMethod(), "uri", uri(request))
+                .register(meterRegistry)
+                .record(statements.nanos(), TimeUnit.NANOSECONDS);
+        ServerHttpObservationFilter.findObservationContext(request).ifPresent(context -> {
+            context.addHighCardinalityKeyValue(KeyValue.of("sql.statements", Integer.toString(statements.count())));
+            context.addHighCardinalityKeyValue(KeyValue.of("sql.time.ms", Long.toString(statements.nanos() / 1_000_000)));
+        });
+    }
+
+    private void guard(HttpServletRequest request, SqlStatementMetrics.RequestStatements statements) {
+        Map<String, Integer> repeated = statements.shapes().entrySet().stream()
+                .filter(shape -> shape.getValue() > maxRepeats)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (statements.count() <= maxStatements && repeated.isEmpty()) return;
+
+        Counter.builder("http.server.requests.sql.excessive")
+                .description("Requests over the statement budget or repeating a statement shape")
+                .tags("method", request.getMethod(), "uri", uri(request))
+                .register(meterRegistry)
+                .increment();
+        String message = String.format("%s %s ran %d SQL statements (max %d)%s", request.getMethod(), uri(request),
+                statements.count(), maxStatements,
+                repeated.isEmpty() ? "" : repeated.entrySet().stream()
+                        .map(shape -> shape.getValue() + "x " + shape.getKey())
+                        .collect(Collectors.joining("\n  ", ", repeated shapes (max " + maxRepeats + "x each):\n  ", "")));
+        if (fail) throw new ExcessiveSqlStatementsException(message);
+        log.warn("[SQL] {}", message);
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
@@ -0,0 +1,97 @@
+package com.pingpost.pingpostBackend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Times every JDBC statement by type and, while a request is being handled on the current
+ * thread, adds it to that request's count, JDBC time and per-shape counts. A batch counts as
+ * one statement. Fed by the datasource proxy declared in {@link DataSourceConfig}.
+ */
+@Component
+public class SqlStatementMetrics implements QueryExecutionListener {
+    private static final String START = "sqlMetrics.start";
+    private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern NUMBER = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<QueryType, Timer> timers = new EnumMap<>(QueryType.class);
+
+    public SqlStatementMetrics(MeterRegistry meterRegistry) {
+        for (QueryType type : QueryType.values()) {
+            timers.put(type, Timer.builder("jdbc.statements")
+                    .description("JDBC statement execution time")
+                    .tag("type", type.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    /** Statements and JDBC time of one request, only touched by the thread handling it. */
+    public static final class RequestStatements {
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int count;
+        private long nanos;
+
+        public int count() {
+            return count;
+        }
+
+        public long nanos() {
+            return nanos;
+        }
+
+        /** How often each statement shape ran; the same shape many times over is an N+1. */
+        public Map<String, Integer> shapes() {
+            return shapes;
+        }
+    }
+
+    public RequestStatements begin() {
+        RequestStatements statements = new RequestStatements();
+        CURRENT.set(statements);
+        return statements;
+    }
+
+    public void end() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long nanos = System.nanoTime() - execInfo.getCustomValue(START, Long.class);
+        QueryType type = queryInfoList.isEmpty() ? QueryType.OTHER : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+        timers.get(type).record(nanos, TimeUnit.NANOSECONDS);
+        RequestStatements statements = CURRENT.get();
+        if (statements != null) {
+            statements.count++;
+            statements.nanos += nanos;
+            if (!queryInfoList.isEmpty()) statements.shapes.merge(shape(queryInfoList.get(0).getQuery()), 1, Integer::sum);
+        }
+    }
+
+    // Bind parameters are already ?; IN lists of any length and inlined numbers collapse too
+    static String shape(String sql) {
+        String shape = IN_LIST.matcher(sql).replaceAll("(?...)");
+        shape = NUMBER.matcher(shape).replaceAll("?");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
@@ -3,16 +3,23 @@ package com.pingpost.pingpostBackend.controller;
 import com.pingpost.pingpostBackend.dto.ApiResponse;
 import com.pingpost.pingpostBackend.dto.BlogRequest;
 import com.pingpost.pingpostBackend.dto.BlogResponse;
+import com.pingpost.pingpostBackend.dto.BlogSearchResult;
+import com.pingpost.pingpostBackend.dto.CursorPaginatedResponse;
 import com.pingpost.pingpostBackend.dto.PaginatedResponse;
+import com.pingpost.pingpostBackend.dto.TrendingHashtag;
 import com.pingpost.pingpostBackend.entity.Blog;
 import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.service.BlogExportService;
 import com.pingpost.pingpostBackend.service.BlogService;
+import com.pingpost.pingpostBackend.service.LikeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.nio.file.AccessDeniedException;
 import java.util.List;
@@ -24,6 +31,8 @@ import java.util.List;
 public class BlogController {
 
     private final BlogService blogService;
+    private final BlogExportService blogExportService;
+    private final LikeService likeService;
 
     @PostMapping
     public ResponseEntity<BlogResponse> publishBlog(
@@ -38,6 +47,14 @@ public class BlogController {
         return ResponseEntity.ok(blogService.getAllBlogs());
     }
 
+    // Constant-memory export for clients that ask for NDJSON
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllBlogs() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(blogExportService::writeNdjson);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<BlogResponse> getBlogById(@PathVariable Long id) {
         return ResponseEntity.ok(blogService.getBlogById(id));
@@ -60,24 +77,58 @@ public class BlogController {
     }
 
     @GetMapping("/user/{username}")
-    public ResponseEntity<List<BlogResponse>> getBlogsByUser(@PathVariable String username) {
-        return ResponseEntity.ok(blogService.getBlogsByUser(username));
+    public ResponseEntity<CursorPaginatedResponse<BlogResponse>> getBlogsByUser(
+            @PathVariable String username,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal User user) {
+        CursorPaginatedResponse<BlogResponse> response = blogService.getBlogsByUser(username, cursor, size);
+        likeService.markLikedByMe(response.getContent(), user);
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping
     public ResponseEntity<PaginatedResponse<BlogResponse>> getBlogs(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(blogService.getBlogsPaginated(page, size));
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal User user) {
+        PaginatedResponse<BlogResponse> response = blogService.getBlogsPaginated(page, size);
+        likeService.markLikedByMe(response.getContent(), user);
+        return ResponseEntity.ok(response);
     }
 
-    @GetMapping("/search")
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPaginatedResponse<BlogResponse>> getBlogsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal User user) {
+        CursorPaginatedResponse<BlogResponse> response = blogService.getBlogsByCursor(cursor, size);
+        likeService.markLikedByMe(response.getContent(), user);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/search", params = "hashtag")
     public ResponseEntity<List<BlogResponse>> searchBlogsByHashtag(@RequestParam String hashtag) {
         return ResponseEntity.ok(blogService.getBlogsByHashtag(hashtag));
     }
 
+    @GetMapping(value = "/search", params = "q")
+    public ResponseEntity<PaginatedResponse<BlogSearchResult>> searchBlogs(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(blogService.searchBlogs(q, page, size));
+    }
+
     @GetMapping("/hashtags")
-    public ResponseEntity<List<String>> getHashtagSuggestions(@RequestParam("q") String prefix) {
-        return ResponseEntity.ok(blogService.getHashtagSuggestions(prefix));
+    public ResponseEntity<List<String>> getHashtagSuggestions(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(blogService.getHashtagSuggestions(prefix, limit));
+    }
+
+    @GetMapping("/hashtags/trending")
+    public ResponseEntity<List<TrendingHashtag>> getTrendingHashtags(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(blogService.getTrendingHashtags(limit));
     }
 } 
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.pingpost.pingpostBackend.controller;
 
 import com.pingpost.pingpostBackend.dto.CommentRequest;
 import com.pingpost.pingpostBackend.dto.CommentResponse;
+import com.pingpost.pingpostBackend.dto.CursorPaginatedResponse;
 import com.pingpost.pingpostBackend.entity.User;
 import com.pingpost.pingpostBackend.service.CommentService;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +32,23 @@ public class CommentController {
         return ResponseEntity.ok(commentService.getComments(blogId));
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPaginatedResponse<CommentResponse>> getThreads(
+            @PathVariable Long blogId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getThreads(blogId, cursor, size));
+    }
+
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CursorPaginatedResponse<CommentResponse>> getReplies(
+            @PathVariable Long blogId,
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getReplies(blogId, commentId, cursor, size));
+    }
+
     @DeleteMapping("/{commentId}")
     public ResponseEntity<Void> deleteComment(
             @PathVariable Long blogId,
@@ -0,0 +1,36 @@
+package com.pingpost.pingpostBackend.controller;
+
+import com.pingpost.pingpostBackend.dto.BlogResponse;
+import com.pingpost.pingpostBackend.dto.CursorPaginatedResponse;
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.service.FeedService;
+import com.pingpost.pingpostBackend.service.LikeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/feed")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class FeedController {
+    private final FeedService feedService;
+    private final LikeService likeService;
+
+    @GetMapping
+    public ResponseEntity<CursorPaginatedResponse<BlogResponse>> getFeed(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPaginatedResponse<BlogResponse> response = feedService.getFeed(user, cursor, size);
+        likeService.markLikedByMe(response.getContent(), user);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuildFeed(@AuthenticationPrincipal User user) {
+        feedService.rebuildTimeline(user.getId());
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -7,31 +7,39 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
-@RequestMapping("/api/blogs/{blogId}/likes")
+@RequestMapping("/api/blogs")
 @RequiredArgsConstructor
 public class LikeController {
     private final LikeService likeService;
 
-    @PostMapping
+    @PostMapping("/{blogId}/likes")
     public ResponseEntity<Void> likeBlog(@PathVariable Long blogId, @AuthenticationPrincipal User user) {
         likeService.likeBlog(blogId, user);
         return ResponseEntity.ok().build();
     }
 
-    @DeleteMapping
+    @DeleteMapping("/{blogId}/likes")
     public ResponseEntity<Void> unlikeBlog(@PathVariable Long blogId, @AuthenticationPrincipal User user) {
         likeService.unlikeBlog(blogId, user);
         return ResponseEntity.noContent().build();
     }
 
-    @GetMapping("/count")
+    @GetMapping("/{blogId}/likes/count")
     public ResponseEntity<Long> getLikeCount(@PathVariable Long blogId) {
         return ResponseEntity.ok(likeService.getLikeCount(blogId));
     }
 
-    @GetMapping("/is-liked")
+    @GetMapping("/{blogId}/likes/is-liked")
     public ResponseEntity<Boolean> isBlogLikedByUser(@PathVariable Long blogId, @AuthenticationPrincipal User user) {
         return ResponseEntity.ok(likeService.isBlogLikedByUser(blogId, user));
     }
-} 
\ No newline at end of file
+
+    // One lookup for a whole rendered page instead of an is-liked call per blog
+    @GetMapping("/liked")
+    public ResponseEntity<List<Long>> getLikedBlogIds(@RequestParam("ids") List<Long> blogIds, @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(likeService.getLikedBlogIds(blogIds, user));
+    }
+}
@@ -0,0 +1,49 @@
+package com.pingpost.pingpostBackend.controller;
+
+import com.pingpost.pingpostBackend.dto.BlogResponse;
+import com.pingpost.pingpostBackend.dto.CommentResponse;
+import com.pingpost.pingpostBackend.dto.CursorPaginatedResponse;
+import com.pingpost.pingpostBackend.service.BlogCursor;
+import com.pingpost.pingpostBackend.service.ReactiveBlogReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Read-only endpoints served over R2DBC; the request thread is released while the query runs
+@RestController
+@RequestMapping("/api/reactive/blogs")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000")
+public class ReactiveBlogController {
+    private final ReactiveBlogReader reactiveBlogReader;
+
+    @GetMapping
+    public Mono<CursorPaginatedResponse<BlogResponse>> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        BlogCursor position = cursor == null || cursor.isBlank() ? null : BlogCursor.decode(cursor);
+        return reactiveBlogReader.getFeedPage(position, size);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<BlogResponse>> getBlog(@PathVariable Long id) {
+        return reactiveBlogReader.getBlog(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{id}/comments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CommentResponse> streamComments(@PathVariable Long id) {
+        return reactiveBlogReader.streamComments(id);
+    }
+
+    @GetMapping("/{id}/likes/count")
+    public Mono<ResponseEntity<Long>> getLikeCount(@PathVariable Long id) {
+        return reactiveBlogReader.getLikeCount(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
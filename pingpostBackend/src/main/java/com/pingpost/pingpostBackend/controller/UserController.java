@@ -2,9 +2,11 @@ package com.pingpost.pingpostBackend.controller;
 
 import com.pingpost.pingpostBackend.dto.BlogResponse;
 import com.pingpost.pingpostBackend.dto.CommentResponse;
+import com.pingpost.pingpostBackend.dto.PaginatedResponse;
 import com.pingpost.pingpostBackend.dto.UserProfileRequest;
 import com.pingpost.pingpostBackend.entity.User;
 import com.pingpost.pingpostBackend.repository.UserRepository;
+import com.pingpost.pingpostBackend.repository.projection.UserSummary;
 import com.pingpost.pingpostBackend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -48,17 +50,10 @@ public class UserController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<PublicUserProfileDTO>> searchUsers(@RequestParam String q) {
-        List<User> users = userRepository.findByUsernameContainingIgnoreCaseOrFullNameContainingIgnoreCase(q, q);
-        List<PublicUserProfileDTO> dtos = users.stream().map(user -> {
-            PublicUserProfileDTO dto = new PublicUserProfileDTO();
-            dto.setUsername(user.getUsername());
-            dto.setFullName(user.getFullName());
-            dto.setBio(user.getBio());
-            dto.setProfilePicture(user.getProfilePicture());
-            return dto;
-        }).toList();
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<List<UserSummary>> searchUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(userService.searchUsers(q, limit));
     }
 
     @GetMapping("/public/{username}")
@@ -101,12 +96,20 @@ public class UserController {
     }
 
     @GetMapping("/{username}/followers")
-    public ResponseEntity<List<PublicUserProfileDTO>> getFollowers(@PathVariable String username) {
-        return ResponseEntity.ok(userService.getFollowers(username));
+    public ResponseEntity<PaginatedResponse<PublicUserProfileDTO>> getFollowers(
+            @PathVariable String username,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(userService.getFollowers(username, page, size));
     }
 
     @GetMapping("/{username}/following")
-    public ResponseEntity<List<PublicUserProfileDTO>> getFollowing(@PathVariable String username) {
-        return ResponseEntity.ok(userService.getFollowing(username));
+    public ResponseEntity<PaginatedResponse<PublicUserProfileDTO>> getFollowing(
+            @PathVariable String username,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(userService.getFollowing(username, page, size));
     }
 } 
\ No newline at end of file
@@ -17,4 +17,6 @@ public class BlogResponse {
     private int likeCount;
     private int commentCount;
     private Set<String> hashtags;
+    // Only set on list responses for an authenticated viewer
+    private Boolean likedByMe;
 } 
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.pingpost.pingpostBackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogSearchResult {
+    private BlogResponse blog;
+    private float score;
+    // Content excerpt with matched terms wrapped in <b> tags
+    private String highlight;
+}
@@ -5,4 +5,5 @@ import lombok.Data;
 @Data
 public class CommentRequest {
     private String content;
+    private Long parentId;
 } 
\ No newline at end of file
@@ -10,4 +10,6 @@ public class CommentResponse {
     private String authorUsername;
     private LocalDateTime createdAt;
     private Long blogId;
+    private Long parentId;
+    private long replyCount;
 } 
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.pingpost.pingpostBackend.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class CursorPaginatedResponse<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+}
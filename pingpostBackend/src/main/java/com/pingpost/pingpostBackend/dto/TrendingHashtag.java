@@ -0,0 +1,13 @@
+package com.pingpost.pingpostBackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingHashtag {
+    private String hashtag;
+    private double score;
+}
@@ -2,14 +2,20 @@ package com.pingpost.pingpostBackend.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Data
 @Table(name = "blogs")
+// Everything a BlogResponse shows: feed, author and liked pages, search results and edits
+@NamedEntityGraph(name = Blog.FEED_PAGE, attributeNodes = {@NamedAttributeNode("author"), @NamedAttributeNode("hashtags")})
 public class Blog {
+    public static final String FEED_PAGE = "Blog.feedPage";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -27,7 +33,7 @@ public class Blog {
     @Column(name = "hashtag")
     private Set<String> hashtags = new HashSet<>();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
 
@@ -37,13 +43,23 @@ public class Blog {
     @OneToMany(mappedBy = "blog", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Like> likes = new HashSet<>();
 
+    // Maintained with atomic UPDATE statements in BlogRepository, never written back from the entity
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int likeCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        // Match the column precision so feed cursors built from an in-memory entity seek correctly
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
     }
 
     @PreUpdate
@@ -3,11 +3,16 @@ package com.pingpost.pingpostBackend.entity;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Data
 @Table(name = "comments")
+// A CommentResponse shows the author's username
+@NamedEntityGraph(name = Comment.THREAD, attributeNodes = @NamedAttributeNode("author"))
 public class Comment {
+    public static final String THREAD = "Comment.thread";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -15,7 +20,7 @@ public class Comment {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
 
@@ -23,10 +28,15 @@ public class Comment {
     @JoinColumn(name = "blog_id", nullable = false, foreignKey = @ForeignKey(name = "FK_comment_blog", foreignKeyDefinition = "FOREIGN KEY (blog_id) REFERENCES blogs(id) ON DELETE CASCADE"))
     private Blog blog;
 
+    // Top-level comment this replies to; replies are one level deep
+    @Column(name = "parent_id")
+    private Long parentId;
+
     private LocalDateTime createdAt;
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // Same as Blog: thread cursors are built from the saved entity
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 } 
\ No newline at end of file
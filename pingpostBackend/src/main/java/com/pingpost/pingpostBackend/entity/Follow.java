@@ -0,0 +1,56 @@
+package com.pingpost.pingpostBackend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single follow edge in user_followers. Edges are created and removed by id pair, so following
+ * or unfollowing never loads either user's follower set; the user associations are read-only and
+ * only used for joins when listing followers.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "user_followers")
+public class Follow implements Persistable<FollowId> {
+    @EmbeddedId
+    private FollowId id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", insertable = false, updatable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "follower_id", insertable = false, updatable = false)
+    private User follower;
+
+    private LocalDateTime createdAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public Follow(Long userId, Long followerId) {
+        this.id = new FollowId(userId, followerId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    @PostLoad
+    protected void markNotNew() {
+        isNew = false;
+    }
+}
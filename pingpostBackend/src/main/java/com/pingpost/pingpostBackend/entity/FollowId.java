@@ -0,0 +1,22 @@
+package com.pingpost.pingpostBackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowId implements Serializable {
+    // The followed user
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "follower_id", nullable = false)
+    private Long followerId;
+}
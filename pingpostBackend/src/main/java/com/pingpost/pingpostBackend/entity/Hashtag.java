@@ -0,0 +1,30 @@
+package com.pingpost.pingpostBackend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row per distinct lowercase hashtag with the number of blogs currently using it. Counts
+ * are adjusted by HashtagService whenever a blog's hashtags change.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "hashtags")
+public class Hashtag {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+
+    @Column(name = "usage_count", nullable = false)
+    private long usageCount;
+
+    public Hashtag(String name, long usageCount) {
+        this.name = name;
+        this.usageCount = usageCount;
+    }
+}
@@ -6,13 +6,13 @@ import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "likes")
+@Table(name = "likes", uniqueConstraints = @UniqueConstraint(name = "uk_likes_user_blog", columnNames = {"user_id", "blog_id"}))
 public class Like {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
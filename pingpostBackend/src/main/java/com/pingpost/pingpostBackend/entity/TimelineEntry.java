@@ -0,0 +1,32 @@
+package com.pingpost.pingpostBackend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+/**
+ * One row per (timeline owner, blog) for fan-out-on-write delivery. Rows are written with bulk
+ * INSERT ... SELECT statements in TimelineRepository, so the entity only carries plain ids.
+ */
+@Entity
+@Data
+@Table(name = "timeline_entries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_timeline_user_blog", columnNames = {"user_id", "blog_id"}))
+public class TimelineEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "blog_id", nullable = false)
+    private Long blogId;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    // Copy of the blog's createdAt so timelines can be paged without touching blogs
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,35 @@
+package com.pingpost.pingpostBackend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Persisted copy of one live ring bucket of the trending counters, written periodically so the
+ * trending window survives a restart. {@code bucket} is the bucket number since the epoch.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "trending_hashtag_buckets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_trending_hashtag_bucket", columnNames = {"hashtag", "bucket"}))
+public class TrendingHashtagBucket {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String hashtag;
+
+    @Column(nullable = false)
+    private long bucket;
+
+    @Column(nullable = false)
+    private double weight;
+
+    public TrendingHashtagBucket(String hashtag, long bucket, double weight) {
+        this.hashtag = hashtag;
+        this.bucket = bucket;
+        this.weight = weight;
+    }
+}
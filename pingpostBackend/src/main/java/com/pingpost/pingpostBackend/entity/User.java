@@ -6,10 +6,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
-import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.util.Collection;
 import java.util.HashSet;
@@ -40,18 +40,10 @@ public class User implements UserDetails {
     private String bio;
     private String profilePicture;
 
-    @ManyToMany
-    @JoinTable(
-        name = "user_followers",
-        joinColumns = @JoinColumn(name = "user_id"),
-        inverseJoinColumns = @JoinColumn(name = "follower_id")
-    )
-    @JsonIgnore
-    private Set<User> followers = new HashSet<>();
-
-    @ManyToMany(mappedBy = "followers")
-    @JsonIgnore
-    private Set<User> following = new HashSet<>();
+    // Authors above the fan-out threshold are merged into timelines at read time instead of on write
+    @ColumnDefault("false")
+    @Column(nullable = false, updatable = false)
+    private boolean highFanout;
 
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
     private Set<Blog> blogs = new HashSet<>();
@@ -0,0 +1,7 @@
+package com.pingpost.pingpostBackend.exception;
+
+public class ExcessiveSqlStatementsException extends RuntimeException {
+    public ExcessiveSqlStatementsException(String message) {
+        super(message);
+    }
+}
@@ -1,20 +1,99 @@
 package com.pingpost.pingpostBackend.repository;
 
 import com.pingpost.pingpostBackend.entity.Blog;
-import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.projection.FeedItem;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface BlogRepository extends JpaRepository<Blog, Long> {
-    Page<Blog> findByAuthor(User author, Pageable pageable);
-    Page<Blog> findByAuthorIn(Iterable<User> authors, Pageable pageable);
-    List<Blog> findByHashtagsIgnoreCase(String hashtag);
-
-    // Custom query to find distinct hashtags by prefix
-    @Query("SELECT DISTINCT LOWER(h) FROM Blog b JOIN b.hashtags h WHERE LOWER(h) LIKE CONCAT(LOWER(:prefix), '%')")
-    java.util.List<String> findDistinctHashtagsByPrefix(String prefix);
-} 
\ No newline at end of file
+
+    @Query(value = "SELECT b.id FROM Blog b", countQuery = "SELECT COUNT(b) FROM Blog b")
+    Page<Long> findPageOfIds(Pageable pageable);
+
+    // Keyset (seek) pagination over idx_blogs_created_at_id; no OFFSET and no COUNT(*)
+    @Query("SELECT b.id FROM Blog b ORDER BY b.createdAt DESC, b.id DESC")
+    List<Long> findFeedIds(Limit limit);
+
+    @Query("SELECT b.id FROM Blog b WHERE b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Long> findFeedIdsBefore(LocalDateTime createdAt, Long id, Limit limit);
+
+    // Fan-out-on-read side of the home timeline: recent blogs of high fan-out authors
+    @Query("SELECT new com.pingpost.pingpostBackend.repository.projection.FeedItem(b.id, b.createdAt) " +
+            "FROM Blog b WHERE b.author.id IN :authorIds ORDER BY b.createdAt DESC, b.id DESC")
+    List<FeedItem> findFeedItemsByAuthorIn(Collection<Long> authorIds, Limit limit);
+
+    @Query("SELECT new com.pingpost.pingpostBackend.repository.projection.FeedItem(b.id, b.createdAt) " +
+            "FROM Blog b WHERE b.author.id IN :authorIds " +
+            "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<FeedItem> findFeedItemsByAuthorInBefore(Collection<Long> authorIds, LocalDateTime createdAt, Long id, Limit limit);
+
+    @Query("SELECT b.id FROM Blog b")
+    List<Long> findAllIds();
+
+    // Seek pagination of one author's blogs over idx_blogs_author_created_at
+    @Query("SELECT b.id FROM Blog b WHERE b.author.id = :authorId ORDER BY b.createdAt DESC, b.id DESC")
+    List<Long> findIdsByAuthorId(Long authorId, Limit limit);
+
+    @Query("SELECT b.id FROM Blog b WHERE b.author.id = :authorId " +
+            "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Long> findIdsByAuthorIdBefore(Long authorId, LocalDateTime createdAt, Long id, Limit limit);
+
+    @Query("SELECT b.id FROM Blog b JOIN b.hashtags h WHERE h = :hashtag ORDER BY b.createdAt DESC, b.id DESC")
+    List<Long> findIdsByHashtag(String hashtag, Limit limit);
+
+    // Loads a page worth of blogs together with their author and hashtags in a single statement
+    @EntityGraph(Blog.FEED_PAGE)
+    @Query("SELECT b FROM Blog b WHERE b.id IN :ids")
+    List<Blog> findAllWithAuthorAndHashtagsByIdIn(Collection<Long> ids);
+
+    @EntityGraph(Blog.FEED_PAGE)
+    @Query("SELECT b FROM Blog b WHERE b.id BETWEEN :fromId AND :toId")
+    List<Blog> findAllWithAuthorAndHashtagsByIdBetween(Long fromId, Long toId);
+
+    @EntityGraph(Blog.FEED_PAGE)
+    Optional<Blog> findWithAuthorAndHashtagsById(Long id);
+
+    @Query("SELECT b.author.id FROM Blog b WHERE b.id = :id")
+    Optional<Long> findAuthorIdById(Long id);
+
+    @Query("SELECT b.likeCount FROM Blog b WHERE b.id = :id")
+    Optional<Integer> findLikeCountById(Long id);
+
+    @Modifying
+    @Query("UPDATE Blog b SET b.likeCount = b.likeCount + :delta WHERE b.id = :id AND b.likeCount + :delta >= 0")
+    int adjustLikeCount(Long id, int delta);
+
+    @Modifying
+    @Query("UPDATE Blog b SET b.commentCount = b.commentCount + :delta WHERE b.id = :id AND b.commentCount + :delta >= 0")
+    int adjustCommentCount(Long id, int delta);
+
+    @Query("SELECT COALESCE(MAX(b.id), 0) FROM Blog b")
+    long findMaxId();
+
+    // Blogs edited since the search index's last commit, or created after the newest blog it holds
+    @Query("SELECT b.id FROM Blog b WHERE (b.updatedAt >= :since OR b.id > :afterId) AND b.id <= :upToId ORDER BY b.id")
+    List<Long> findIdsChangedSince(LocalDateTime since, Long afterId, Long upToId);
+
+    @Query("SELECT b.id FROM Blog b WHERE b.id > :afterId ORDER BY b.id")
+    List<Long> findIdsAfter(Long afterId, Limit limit);
+
+    // Recomputes the denormalized counters from the source tables for one id range
+    @Modifying
+    @Query("UPDATE Blog b SET b.likeCount = (SELECT COUNT(l) FROM Like l WHERE l.blog = b), " +
+            "b.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.blog = b) " +
+            "WHERE b.id BETWEEN :fromId AND :toId")
+    int reconcileCounters(Long fromId, Long toId);
+} 
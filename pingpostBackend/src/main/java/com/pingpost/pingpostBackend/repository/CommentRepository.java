@@ -2,11 +2,58 @@ package com.pingpost.pingpostBackend.repository;
 
 import com.pingpost.pingpostBackend.entity.Comment;
 import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.projection.ReplyCount;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByBlogId(Long blogId);
     List<Comment> findByAuthor(User user);
     long countByBlog(com.pingpost.pingpostBackend.entity.Blog blog);
-} 
\ No newline at end of file
+
+    @EntityGraph(Comment.THREAD)
+    Optional<Comment> findWithAuthorById(Long id);
+
+    @EntityGraph(Comment.THREAD)
+    @Query("SELECT c FROM Comment c WHERE c.blog.id = :blogId ORDER BY c.createdAt, c.id")
+    List<Comment> findAllWithAuthorByBlogId(Long blogId);
+
+    // Seek pagination of a blog's top-level comments, oldest first, over idx_comments_blog_created_id
+    @EntityGraph(Comment.THREAD)
+    @Query("SELECT c FROM Comment c WHERE c.blog.id = :blogId AND c.parentId IS NULL " +
+            "ORDER BY c.createdAt, c.id")
+    List<Comment> findThreadsWithAuthor(Long blogId, Limit limit);
+
+    @EntityGraph(Comment.THREAD)
+    @Query("SELECT c FROM Comment c WHERE c.blog.id = :blogId AND c.parentId IS NULL " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<Comment> findThreadsWithAuthorAfter(Long blogId, LocalDateTime createdAt, Long id, Limit limit);
+
+    // Replies of one thread over idx_comments_parent_created_id
+    @EntityGraph(Comment.THREAD)
+    @Query("SELECT c FROM Comment c WHERE c.parentId = :parentId ORDER BY c.createdAt, c.id")
+    List<Comment> findRepliesWithAuthor(Long parentId, Limit limit);
+
+    @EntityGraph(Comment.THREAD)
+    @Query("SELECT c FROM Comment c WHERE c.parentId = :parentId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    List<Comment> findRepliesWithAuthorAfter(Long parentId, LocalDateTime createdAt, Long id, Limit limit);
+
+    @Query("SELECT new com.pingpost.pingpostBackend.repository.projection.ReplyCount(c.parentId, COUNT(c)) " +
+            "FROM Comment c WHERE c.parentId IN :parentIds GROUP BY c.parentId")
+    List<ReplyCount> countRepliesByParentIdIn(Collection<Long> parentIds);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.parentId = :parentId")
+    int deleteByParentId(Long parentId);
+}
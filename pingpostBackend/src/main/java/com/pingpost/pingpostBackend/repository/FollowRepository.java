@@ -0,0 +1,28 @@
+package com.pingpost.pingpostBackend.repository;
+
+import com.pingpost.pingpostBackend.entity.Follow;
+import com.pingpost.pingpostBackend.entity.FollowId;
+import com.pingpost.pingpostBackend.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface FollowRepository extends JpaRepository<Follow, FollowId> {
+    long countByIdUserId(Long userId);
+
+    long countByIdFollowerId(Long followerId);
+
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.id.userId = :userId AND f.id.followerId = :followerId")
+    int deleteByPair(Long userId, Long followerId);
+
+    @Query(value = "SELECT f.follower FROM Follow f WHERE f.id.userId = :userId",
+            countQuery = "SELECT COUNT(f) FROM Follow f WHERE f.id.userId = :userId")
+    Page<User> findFollowersOf(Long userId, Pageable pageable);
+
+    @Query(value = "SELECT f.user FROM Follow f WHERE f.id.followerId = :followerId",
+            countQuery = "SELECT COUNT(f) FROM Follow f WHERE f.id.followerId = :followerId")
+    Page<User> findFollowedBy(Long followerId, Pageable pageable);
+}
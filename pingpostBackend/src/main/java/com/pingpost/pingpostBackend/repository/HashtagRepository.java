@@ -0,0 +1,31 @@
+package com.pingpost.pingpostBackend.repository;
+
+import com.pingpost.pingpostBackend.entity.Hashtag;
+import com.pingpost.pingpostBackend.repository.projection.HashtagUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
+    @Modifying
+    @Query("UPDATE Hashtag h SET h.usageCount = h.usageCount + :delta WHERE h.name = :name AND h.usageCount + :delta >= 0")
+    int adjustUsage(String name, long delta);
+
+    // One statement, so two blogs introducing the same tag at once never race on uk_hashtags_name
+    @Modifying
+    @Query(value = "INSERT INTO hashtags (name, usage_count) VALUES (:name, 1) " +
+            "ON DUPLICATE KEY UPDATE usage_count = usage_count + 1", nativeQuery = true)
+    int incrementOrInsert(String name);
+
+    @Query("SELECT new com.pingpost.pingpostBackend.repository.projection.HashtagUsage(h.name, h.usageCount) " +
+            "FROM Hashtag h WHERE h.usageCount > 0")
+    List<HashtagUsage> findAllInUse();
+
+    // Recomputes every count from blog_hashtags; used to seed the table from existing blogs
+    @Modifying
+    @Query(value = "INSERT INTO hashtags (name, usage_count) " +
+            "SELECT LOWER(hashtag), COUNT(DISTINCT blog_id) FROM blog_hashtags GROUP BY LOWER(hashtag)", nativeQuery = true)
+    int insertUsageFromBlogs();
+}
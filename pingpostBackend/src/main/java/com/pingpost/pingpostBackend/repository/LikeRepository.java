@@ -4,12 +4,28 @@ import com.pingpost.pingpostBackend.entity.Blog;
 import com.pingpost.pingpostBackend.entity.Like;
 import com.pingpost.pingpostBackend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
-    boolean existsByUserAndBlog(User user, Blog blog);
-    void deleteByUserAndBlog(User user, Blog blog);
+    long deleteByUserAndBlog(User user, Blog blog);
     long countByBlog(Blog blog);
     List<Like> findByUser(User user);
-} 
\ No newline at end of file
+
+    @Query("SELECT l.blog.id FROM Like l WHERE l.user = :user ORDER BY l.createdAt DESC, l.id DESC")
+    List<Long> findBlogIdsByUser(User user);
+
+    // A duplicate hits uk_likes_user_blog and inserts nothing, so concurrent likes never fail
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (user_id, blog_id, created_at) VALUES (:userId, :blogId, :createdAt)",
+            nativeQuery = true)
+    int insertIgnore(Long userId, Long blogId, LocalDateTime createdAt);
+
+    // Served from uk_likes_user_blog
+    @Query("SELECT l.blog.id FROM Like l WHERE l.user.id = :userId AND l.blog.id IN :blogIds")
+    List<Long> findLikedBlogIds(Long userId, Collection<Long> blogIds);
+} 
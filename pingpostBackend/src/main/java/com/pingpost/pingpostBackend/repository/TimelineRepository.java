@@ -0,0 +1,72 @@
+package com.pingpost.pingpostBackend.repository;
+
+import com.pingpost.pingpostBackend.entity.TimelineEntry;
+import com.pingpost.pingpostBackend.repository.projection.FeedItem;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TimelineRepository extends JpaRepository<TimelineEntry, Long> {
+
+    @Query("SELECT new com.pingpost.pingpostBackend.repository.projection.FeedItem(t.blogId, t.createdAt) " +
+            "FROM TimelineEntry t WHERE t.userId = :userId ORDER BY t.createdAt DESC, t.blogId DESC")
+    List<FeedItem> findFeedItems(Long userId, Limit limit);
+
+    @Query("SELECT new com.pingpost.pingpostBackend.repository.projection.FeedItem(t.blogId, t.createdAt) " +
+            "FROM TimelineEntry t WHERE t.userId = :userId " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.blogId < :blogId)) " +
+            "ORDER BY t.createdAt DESC, t.blogId DESC")
+    List<FeedItem> findFeedItemsBefore(Long userId, LocalDateTime createdAt, Long blogId, Limit limit);
+
+    // Fan-out-on-write: one statement delivers a new blog to every follower of its author. Like every
+    // timeline insert it skips rows already delivered, as fan-outs, backfills and rebuilds can race
+    // on uk_timeline_user_blog
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO timeline_entries (user_id, blog_id, author_id, created_at) " +
+            "SELECT uf.follower_id, :blogId, :authorId, :createdAt FROM user_followers uf WHERE uf.user_id = :authorId",
+            nativeQuery = true)
+    int fanOutToFollowers(Long blogId, Long authorId, LocalDateTime createdAt);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO timeline_entries (user_id, blog_id, author_id, created_at) " +
+            "VALUES (:userId, :blogId, :userId, :createdAt)", nativeQuery = true)
+    int deliverToAuthor(Long userId, Long blogId, LocalDateTime createdAt);
+
+    // Copies nothing once the follow is gone, so a backfill that runs after the unfollow adds no rows
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO timeline_entries (user_id, blog_id, author_id, created_at) " +
+            "SELECT :userId, b.id, b.author_id, b.created_at FROM blogs b " +
+            "WHERE b.author_id = :authorId AND b.created_at >= :since " +
+            "AND EXISTS (SELECT 1 FROM user_followers uf WHERE uf.follower_id = :userId AND uf.user_id = :authorId)",
+            nativeQuery = true)
+    int backfillFromAuthor(Long userId, Long authorId, LocalDateTime since);
+
+    // Rebuild delivers the user's own posts and those of every followed author that is not high fan-out
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO timeline_entries (user_id, blog_id, author_id, created_at) " +
+            "SELECT :userId, b.id, b.author_id, b.created_at FROM blogs b JOIN users u ON u.id = b.author_id " +
+            "WHERE b.created_at >= :since AND (b.author_id = :userId OR (u.high_fanout = FALSE " +
+            "AND b.author_id IN (SELECT uf.user_id FROM user_followers uf WHERE uf.follower_id = :userId)))",
+            nativeQuery = true)
+    int rebuildFromFollowedAuthors(Long userId, LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.userId = :userId AND t.authorId = :authorId")
+    int deleteByUserIdAndAuthorId(Long userId, Long authorId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.userId = :userId")
+    int deleteByUserId(Long userId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.blogId = :blogId")
+    int deleteByBlogId(Long blogId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.createdAt < :before")
+    int deleteOlderThan(LocalDateTime before);
+}
@@ -0,0 +1,10 @@
+package com.pingpost.pingpostBackend.repository;
+
+import com.pingpost.pingpostBackend.entity.TrendingHashtagBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface TrendingHashtagBucketRepository extends JpaRepository<TrendingHashtagBucket, Long> {
+    List<TrendingHashtagBucket> findByBucketGreaterThan(long bucket);
+}
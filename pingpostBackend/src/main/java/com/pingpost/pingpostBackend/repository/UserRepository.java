@@ -1,7 +1,10 @@
 package com.pingpost.pingpostBackend.repository;
 
 import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.projection.UserSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,5 +14,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
     List<User> findByUsernameContainingIgnoreCase(String username);
-    List<User> findByUsernameContainingIgnoreCaseOrFullNameContainingIgnoreCase(String username, String fullName);
+
+    @Query("SELECT new com.pingpost.pingpostBackend.repository.projection.UserSummary(u.id, u.username, u.fullName, u.profilePicture) " +
+            "FROM User u ORDER BY u.id")
+    List<UserSummary> findAllSummaries();
+
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(String username);
+
+    @Query(value = "SELECT u.id FROM users u JOIN user_followers uf ON uf.user_id = u.id " +
+            "WHERE uf.follower_id = :followerId AND u.high_fanout = TRUE", nativeQuery = true)
+    List<Long> findFollowedHighFanoutAuthorIds(Long followerId);
+
+    @Modifying
+    @Query("UPDATE User u SET u.highFanout = true WHERE u.id = :id")
+    int markHighFanout(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.pingpost.pingpostBackend.repository.projection;
+
+import java.time.LocalDateTime;
+
+public record FeedItem(Long blogId, LocalDateTime createdAt) {
+}
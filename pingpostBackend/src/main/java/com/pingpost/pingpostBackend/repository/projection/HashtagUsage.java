@@ -0,0 +1,4 @@
+package com.pingpost.pingpostBackend.repository.projection;
+
+public record HashtagUsage(String name, long usageCount) {
+}
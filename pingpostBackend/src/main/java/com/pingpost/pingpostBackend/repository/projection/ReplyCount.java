@@ -0,0 +1,4 @@
+package com.pingpost.pingpostBackend.repository.projection;
+
+public record ReplyCount(Long parentId, long count) {
+}
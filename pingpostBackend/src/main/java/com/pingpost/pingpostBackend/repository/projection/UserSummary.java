@@ -0,0 +1,4 @@
+package com.pingpost.pingpostBackend.repository.projection;
+
+public record UserSummary(Long id, String username, String fullName, String profilePicture) {
+}
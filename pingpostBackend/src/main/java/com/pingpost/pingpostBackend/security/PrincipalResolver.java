@@ -0,0 +1,71 @@
+package com.pingpost.pingpostBackend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Turns a verified token into the request principal. {@code application.security.principal-source}
+ * selects how:
+ * <ul>
+ *   <li>{@code token} - rebuilt from the signed claims, no database access</li>
+ *   <li>{@code cache} - loaded from the database through a small, short-lived user cache</li>
+ *   <li>{@code database} - loaded from the database on every request</li>
+ * </ul>
+ * Tokens issued before the id claim existed fall back to the cache.
+ */
+@Component
+public class PrincipalResolver {
+    public enum Source { TOKEN, CACHE, DATABASE }
+
+    private final UserRepository userRepository;
+    private final Source source;
+    private final Cache<String, User> users;
+
+    public PrincipalResolver(
+            UserRepository userRepository,
+            @Value("${application.security.principal-source:token}") Source source,
+            @Value("${application.security.user-cache.max-size:10000}") long maxSize,
+            @Value("${application.security.user-cache.ttl:60s}") Duration ttl
+    ) {
+        this.userRepository = userRepository;
+        this.source = source;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<User> resolve(VerifiedToken token) {
+        return switch (source) {
+            case TOKEN -> token.userId() != null ? Optional.of(fromClaims(token)) : cached(token.username());
+            case CACHE -> cached(token.username());
+            case DATABASE -> userRepository.findByUsername(token.username());
+        };
+    }
+
+    public void evict(String username) {
+        users.invalidate(username);
+    }
+
+    private Optional<User> cached(String username) {
+        return Optional.ofNullable(users.get(username, key -> userRepository.findByUsername(key).orElse(null)));
+    }
+
+    private User fromClaims(VerifiedToken token) {
+        User user = new User();
+        user.setId(token.userId());
+        user.setUsername(token.username());
+        user.setEmail(token.claims().get("email", String.class));
+        user.setFullName(token.claims().get("fullName", String.class));
+        user.setProfilePicture(token.claims().get("profilePicture", String.class));
+        user.setBio(token.claims().get("bio", String.class));
+        return user;
+    }
+}
@@ -0,0 +1,24 @@
+package com.pingpost.pingpostBackend.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * Result of a successful signature and expiry check. Holds the parsed claims so callers never
+ * have to parse the same token again.
+ */
+public record VerifiedToken(Claims claims) {
+    public String username() {
+        return claims.getSubject();
+    }
+
+    public Long userId() {
+        Number id = claims.get("id", Number.class);
+        return id == null ? null : id.longValue();
+    }
+
+    public Date expiresAt() {
+        return claims.getExpiration();
+    }
+}
@@ -5,7 +5,9 @@ import com.pingpost.pingpostBackend.dto.auth.LoginRequest;
 import com.pingpost.pingpostBackend.dto.auth.RegisterRequest;
 import com.pingpost.pingpostBackend.entity.User;
 import com.pingpost.pingpostBackend.repository.UserRepository;
+import com.pingpost.pingpostBackend.repository.projection.UserSummary;
 import com.pingpost.pingpostBackend.security.JwtService;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -14,11 +16,13 @@ import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Observed(name = "pingpost.service")
 public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final UserSearchIndex userSearchIndex;
 
     public AuthResponse register(RegisterRequest request) {
         var user = User.builder()
@@ -28,6 +32,7 @@ public class AuthService {
                 .fullName(request.getFullName())
                 .build();
         userRepository.save(user);
+        userSearchIndex.upsert(new UserSummary(user.getId(), user.getUsername(), user.getFullName(), user.getProfilePicture()));
         var jwtToken = jwtService.generateToken(user);
         var refreshToken = jwtService.generateRefreshToken(user);
         return AuthResponse.builder()
@@ -0,0 +1,49 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.repository.BlogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Periodically recomputes blogs.like_count and blogs.comment_count from the likes and comments
+ * tables to repair any drift in the denormalized counters. Work is split into id ranges so
+ * each transaction only locks a small slice of the blogs table.
+ */
+@Component
+public class BlogCounterReconciler {
+    private static final Logger log = LoggerFactory.getLogger(BlogCounterReconciler.class);
+
+    private final BlogRepository blogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlogResponseCache blogResponseCache;
+    private final int batchSize;
+
+    public BlogCounterReconciler(
+            BlogRepository blogRepository,
+            TransactionTemplate transactionTemplate,
+            BlogResponseCache blogResponseCache,
+            @Value("${application.blog.counters.reconcile-batch-size:1000}") int batchSize) {
+        this.blogRepository = blogRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.blogResponseCache = blogResponseCache;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${application.blog.counters.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        long maxId = blogRepository.findMaxId();
+        long reconciled = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+            long from = fromId;
+            long to = fromId + batchSize - 1;
+            Integer updated = transactionTemplate.execute(status -> blogRepository.reconcileCounters(from, to));
+            reconciled += updated == null ? 0 : updated;
+        }
+        if (reconciled > 0) blogResponseCache.evictAll();
+        log.info("[COUNTERS] reconciled like/comment counters for {} blogs", reconciled);
+    }
+}
@@ -0,0 +1,124 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pingpost.pingpostBackend.dto.AuthorDTO;
+import com.pingpost.pingpostBackend.dto.BlogResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+
+/**
+ * Writes every blog as newline-delimited JSON straight from a forward-only JDBC cursor. Rows
+ * are ordered by blog id so the hashtag rows of one blog are adjacent; only the blog being
+ * written is held in memory, whatever the size of the table.
+ */
+@Service
+public class BlogExportService {
+    private static final String EXPORT_SQL =
+            "SELECT b.id, b.title, b.content, b.image_url, b.created_at, b.updated_at, b.like_count, b.comment_count, " +
+            "u.username, u.full_name, u.profile_picture, h.hashtag " +
+            "FROM blogs b JOIN users u ON u.id = b.author_id " +
+            "LEFT JOIN blog_hashtags h ON h.blog_id = b.id " +
+            "ORDER BY b.id DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int flushEvery;
+
+    public BlogExportService(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            @Value("${application.blog.export.fetch-size:500}") int fetchSize,
+            @Value("${application.blog.export.flush-every:100}") int flushEvery
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // A positive fetch size makes the MariaDB driver stream rows instead of buffering the result
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+        this.flushEvery = flushEvery;
+    }
+
+    public void writeNdjson(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        NdjsonWriter writer = new NdjsonWriter(generator);
+        try {
+            jdbcTemplate.query(EXPORT_SQL, writer::onRow);
+            writer.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.flush();
+    }
+
+    private class NdjsonWriter {
+        private final JsonGenerator generator;
+        private BlogResponse current;
+        private int written;
+
+        NdjsonWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        void onRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            if (current == null || current.getId() != id) {
+                write(current);
+                current = toResponse(rs);
+            }
+            String hashtag = rs.getString("hashtag");
+            if (hashtag != null) current.getHashtags().add(hashtag);
+        }
+
+        void finish() {
+            write(current);
+            current = null;
+        }
+
+        private void write(BlogResponse blog) {
+            if (blog == null) return;
+            try {
+                generator.writeObject(blog);
+                generator.writeRaw('\n');
+                if (++written % flushEvery == 0) generator.flush();
+            } catch (IOException e) {
+                // Aborts the JDBC cursor when the client disconnects
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static BlogResponse toResponse(ResultSet rs) throws SQLException {
+        BlogResponse resp = new BlogResponse();
+        resp.setId(rs.getLong("id"));
+        resp.setTitle(rs.getString("title"));
+        resp.setContent(rs.getString("content"));
+        resp.setImageUrl(rs.getString("image_url"));
+        resp.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        resp.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        resp.setLikeCount(rs.getInt("like_count"));
+        resp.setCommentCount(rs.getInt("comment_count"));
+        resp.setHashtags(new HashSet<>());
+        AuthorDTO author = new AuthorDTO();
+        author.setUsername(rs.getString("username"));
+        author.setFullName(rs.getString("full_name"));
+        author.setProfilePicture(rs.getString("profile_picture"));
+        resp.setAuthor(author);
+        return resp;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,69 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.dto.AuthorDTO;
+import com.pingpost.pingpostBackend.dto.BlogResponse;
+import com.pingpost.pingpostBackend.entity.Blog;
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.BlogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-model path for {@link BlogResponse}. A whole page of blogs is assembled with a single
+ * fetch for blogs with authors and hashtags; like and comment counts come from the
+ * denormalized counters on the blog row. Longer id lists are fetched {@value #CHUNK_SIZE} at a
+ * time, so no IN list grows with the table.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlogResponseAssembler {
+    static final int CHUNK_SIZE = 500;
+
+    private final BlogRepository blogRepository;
+
+    public List<BlogResponse> toResponsesByIds(List<Long> blogIds) {
+        if (blogIds.isEmpty()) return List.of();
+        Map<Long, Blog> blogsById = new HashMap<>();
+        for (int from = 0; from < blogIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = blogIds.subList(from, Math.min(from + CHUNK_SIZE, blogIds.size()));
+            for (Blog blog : blogRepository.findAllWithAuthorAndHashtagsByIdIn(chunk)) {
+                blogsById.put(blog.getId(), blog);
+            }
+        }
+        List<Blog> ordered = new ArrayList<>(blogIds.size());
+        for (Long id : blogIds) {
+            Blog blog = blogsById.get(id);
+            if (blog != null) ordered.add(blog);
+        }
+        return ordered.stream().map(this::toResponse).toList();
+    }
+
+    public BlogResponse toResponse(Blog blog) {
+        BlogResponse resp = new BlogResponse();
+        resp.setId(blog.getId());
+        resp.setTitle(blog.getTitle());
+        resp.setContent(blog.getContent());
+        resp.setImageUrl(blog.getImageUrl());
+        resp.setAuthor(toAuthorDTO(blog.getAuthor()));
+        resp.setCreatedAt(blog.getCreatedAt());
+        resp.setUpdatedAt(blog.getUpdatedAt());
+        resp.setLikeCount(blog.getLikeCount());
+        resp.setCommentCount(blog.getCommentCount());
+        resp.setHashtags(blog.getHashtags() == null ? null : new HashSet<>(blog.getHashtags()));
+        return resp;
+    }
+
+    private AuthorDTO toAuthorDTO(User user) {
+        AuthorDTO dto = new AuthorDTO();
+        dto.setUsername(user.getUsername());
+        dto.setFullName(user.getFullName());
+        dto.setProfilePicture(user.getProfilePicture());
+        return dto;
+    }
+}
@@ -0,0 +1,79 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pingpost.pingpostBackend.dto.BlogResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Assembled {@link BlogResponse}s of single blog reads and the liked list, keyed by blog id. Caffeine's
+ * W-TinyLFU policy keeps viral posts resident, and {@link Cache#get} runs at most one load per
+ * key, so concurrent misses on a hot blog wait for that load instead of all hitting the
+ * database. Cached responses are shared between requests and must not be modified.
+ */
+@Component
+public class BlogResponseCache {
+    private final Cache<Long, BlogResponse> responses;
+
+    public BlogResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${application.blog.cache.max-size:10000}") long maxSize,
+            @Value("${application.blog.cache.ttl:5m}") Duration ttl
+    ) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "blogResponses");
+    }
+
+    public BlogResponse get(Long blogId, Function<Long, BlogResponse> loader) {
+        return responses.get(blogId, loader);
+    }
+
+    /**
+     * Responses for {@code blogIds} in the given order. Misses are handed to {@code loader} in one
+     * call; blogs it does not return are left out of the result and not cached.
+     */
+    public List<BlogResponse> getAll(List<Long> blogIds, Function<List<Long>, List<BlogResponse>> loader) {
+        if (blogIds.isEmpty()) return List.of();
+        Map<Long, BlogResponse> found = responses.getAll(blogIds, (Set<? extends Long> missing) ->
+                loader.apply(List.copyOf(missing)).stream()
+                        .collect(Collectors.toMap(BlogResponse::getId, Function.identity())));
+        return blogIds.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Drops the entry now and again once the surrounding transaction commits, so a read that
+     * raced the write cannot leave the pre-commit state cached.
+     */
+    public void evict(Long blogId) {
+        responses.invalidate(blogId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    responses.invalidate(blogId);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        responses.invalidateAll();
+    }
+}
@@ -0,0 +1,341 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.entity.Blog;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * In-process Lucene index over blog titles, content and hashtags. Writes from BlogService are
+ * applied after their transaction commits and become searchable on the next near-real-time
+ * refresh; queries are ranked with Lucene's default BM25 similarity and the content field is
+ * highlighted. The index lives on local disk, or in memory when
+ * {@code application.search.in-memory} is set.
+ * <p>
+ * Every Lucene commit records a {@link SyncMark}, the newest {@code updated_at} and id among the
+ * blogs indexed so far, so writes lost with uncommitted changes can be caught up on from the
+ * blogs table at startup; see {@link BlogSearchReindexer}.
+ */
+@Component
+public class BlogSearchIndex {
+    public static final int MAX_PAGE_SIZE = 50;
+    // Deepest hit a page may reach; past this, offset paging costs more than it is worth
+    public static final int MAX_RESULT_WINDOW = 10_000;
+    static final String REBUILD_NEXT_ID = "rebuild.nextId";
+    static final String REBUILD_COMPLETE = "rebuild.complete";
+    static final String SYNC_UPDATED_AT = "sync.updatedAt";
+    static final String SYNC_ID = "sync.id";
+
+    private static final Logger log = LoggerFactory.getLogger(BlogSearchIndex.class);
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String HASHTAGS = "hashtags";
+    private static final Map<String, Float> BOOSTS = Map.of(TITLE, 2.0f, HASHTAGS, 1.5f, CONTENT, 1.0f);
+    // Offsets in the postings let the highlighter skip re-analysing stored content
+    private static final FieldType CONTENT_TYPE = new FieldType(TextField.TYPE_STORED);
+
+    static {
+        CONTENT_TYPE.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        CONTENT_TYPE.freeze();
+    }
+
+    private final Directory directory;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final Object markLock = new Object();
+    private SyncMark mark;
+
+    @Autowired
+    public BlogSearchIndex(
+            @Value("${application.search.index-dir:data/search-index}") Path indexDir,
+            @Value("${application.search.in-memory:false}") boolean inMemory) throws IOException {
+        this(inMemory ? new ByteBuffersDirectory() : FSDirectory.open(indexDir));
+    }
+
+    public BlogSearchIndex(Directory directory) throws IOException {
+        this.directory = directory;
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+        this.mark = syncMark().orElse(null);
+    }
+
+    public record Hit(long blogId, float score, String highlight) {
+    }
+
+    public record Result(long totalHits, List<Hit> hits) {
+    }
+
+    /** Newest {@code updated_at} and id among the blogs indexed; {@code updatedAt} is null if none had one. */
+    public record SyncMark(LocalDateTime updatedAt, long id) {
+    }
+
+    /** Indexes the blog once the surrounding transaction commits. */
+    public void index(Blog blog) {
+        Document document = toDocument(blog);
+        // updated_at is stamped at flush, so it is read once the transaction has committed
+        afterCommit(() -> update(blog.getId(), blog.getUpdatedAt(), document));
+    }
+
+    /** Removes the blog once the surrounding transaction commits. */
+    public void delete(Long blogId) {
+        afterCommit(() -> {
+            try {
+                writer.deleteDocuments(new Term(ID, blogId.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /** Indexes blogs immediately; used by the rebuild, which reads committed rows. */
+    public void indexAll(Collection<Blog> blogs) {
+        for (Blog blog : blogs) update(blog.getId(), blog.getUpdatedAt(), toDocument(blog));
+    }
+
+    /** Ids of every blog in the index, including changes not yet visible to searches. */
+    public Roaring64Bitmap indexedIds() {
+        IndexSearcher searcher = null;
+        try {
+            searcherManager.maybeRefreshBlocking();
+            searcher = searcherManager.acquire();
+            Roaring64Bitmap ids = new Roaring64Bitmap();
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                Terms terms = leaf.reader().terms(ID);
+                if (terms == null) continue;
+                // Deleted documents keep their terms until a merge, so only live postings count
+                Bits liveDocs = leaf.reader().getLiveDocs();
+                TermsEnum termsEnum = terms.iterator();
+                PostingsEnum postings = null;
+                for (BytesRef term = termsEnum.next(); term != null; term = termsEnum.next()) {
+                    postings = termsEnum.postings(postings, PostingsEnum.NONE);
+                    for (int doc = postings.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = postings.nextDoc()) {
+                        if (liveDocs == null || liveDocs.get(doc)) {
+                            ids.addLong(Long.parseLong(term.utf8ToString()));
+                            break;
+                        }
+                    }
+                }
+            }
+            return ids;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (searcher != null) release(searcher);
+        }
+    }
+
+    public Result search(String queryText, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int from = Math.max(page, 0) * pageSize;
+        if (queryText == null || queryText.isBlank() || from >= MAX_RESULT_WINDOW) return new Result(0, List.of());
+        Query query = parse(queryText);
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs top = searcher.search(query, Math.min(from + pageSize, MAX_RESULT_WINDOW));
+            ScoreDoc[] pageDocs = from >= top.scoreDocs.length
+                    ? new ScoreDoc[0]
+                    : Arrays.copyOfRange(top.scoreDocs, from, top.scoreDocs.length);
+            String[] highlights = UnifiedHighlighter.builder(searcher, analyzer).build()
+                    .highlight(CONTENT, query, new TopDocs(top.totalHits, pageDocs), 2);
+            List<Hit> hits = new ArrayList<>(pageDocs.length);
+            for (int i = 0; i < pageDocs.length; i++) {
+                long blogId = Long.parseLong(searcher.storedFields().document(pageDocs[i].doc, Set.of(ID)).get(ID));
+                hits.add(new Hit(blogId, pageDocs[i].score, highlights[i]));
+            }
+            return new Result(top.totalHits.value, hits);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (searcher != null) release(searcher);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.search.refresh-interval-ms:1000}")
+    public void refresh() {
+        try {
+            // Waits out a refresh already in progress, so changes made before the call are visible after it
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            log.warn("[SEARCH] refresh failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.search.commit-interval-ms:60000}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) commitWith(rebuildState());
+        } catch (IOException e) {
+            log.warn("[SEARCH] commit failed", e);
+        }
+    }
+
+    /** Rebuild progress as recorded in the last commit point. */
+    public Map<String, String> rebuildState() {
+        try {
+            if (!DirectoryReader.indexExists(directory)) return Map.of();
+            Map<String, String> state = new HashMap<>();
+            writer.getLiveCommitData().forEach(entry -> state.put(entry.getKey(), entry.getValue()));
+            return state;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** The sync mark recorded in the last commit point, if anything has been committed. */
+    public Optional<SyncMark> syncMark() {
+        Map<String, String> state = rebuildState();
+        if (!state.containsKey(SYNC_ID)) return Optional.empty();
+        String updatedAt = state.get(SYNC_UPDATED_AT);
+        return Optional.of(new SyncMark(
+                updatedAt == null ? null : LocalDateTime.parse(updatedAt), Long.parseLong(state.get(SYNC_ID))));
+    }
+
+    /** Durably records rebuild progress together with everything indexed so far. */
+    public void checkpointRebuild(Map<String, String> state) {
+        try {
+            commitWith(state);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        refresh();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Query parse(String queryText) {
+        String[] fields = BOOSTS.keySet().toArray(String[]::new);
+        try {
+            // User input is plain text, so operators and wildcards are escaped rather than interpreted
+            return new MultiFieldQueryParser(fields, analyzer, BOOSTS).parse(QueryParser.escape(queryText));
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Invalid search query", e);
+        }
+    }
+
+    private void update(Long blogId, LocalDateTime updatedAt, Document document) {
+        try {
+            writer.updateDocument(new Term(ID, blogId.toString()), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        synchronized (markLock) {
+            if (mark == null) {
+                mark = new SyncMark(updatedAt, blogId);
+            } else {
+                LocalDateTime newest = mark.updatedAt() == null || (updatedAt != null && updatedAt.isAfter(mark.updatedAt()))
+                        ? updatedAt : mark.updatedAt();
+                mark = new SyncMark(newest, Math.max(mark.id(), blogId));
+            }
+        }
+    }
+
+    // The mark is taken before committing, so it never claims a change the commit does not hold
+    private void commitWith(Map<String, String> rebuildState) throws IOException {
+        Map<String, String> data = new HashMap<>(rebuildState);
+        data.remove(SYNC_UPDATED_AT);
+        data.remove(SYNC_ID);
+        synchronized (markLock) {
+            if (mark != null) {
+                if (mark.updatedAt() != null) data.put(SYNC_UPDATED_AT, mark.updatedAt().toString());
+                data.put(SYNC_ID, Long.toString(mark.id()));
+            }
+        }
+        writer.setLiveCommitData(data.entrySet());
+        writer.commit();
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("[SEARCH] failed to release searcher", e);
+        }
+    }
+
+    private static Document toDocument(Blog blog) {
+        Document document = new Document();
+        document.add(new StringField(ID, blog.getId().toString(), Field.Store.YES));
+        document.add(new TextField(TITLE, nullToEmpty(blog.getTitle()), Field.Store.NO));
+        document.add(new Field(CONTENT, nullToEmpty(blog.getContent()), CONTENT_TYPE));
+        if (blog.getHashtags() != null) {
+            for (String hashtag : blog.getHashtags()) document.add(new TextField(HASHTAGS, hashtag, Field.Store.NO));
+        }
+        return document;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
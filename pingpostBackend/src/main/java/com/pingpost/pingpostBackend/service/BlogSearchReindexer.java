@@ -0,0 +1,119 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.repository.BlogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builds the search index from the blogs table. Rounds of id ranges are loaded and indexed in
+ * parallel on the application task executor, which runs on virtual threads when those are
+ * enabled and is bounded either way; after each round the next unindexed id is written into the Lucene commit, so a
+ * restart continues from the last completed round instead of starting over.
+ * <p>
+ * Live writes reach disk with the next periodic Lucene commit, so a crash can lose the ones in
+ * between. On startup, blogs edited since the commit's {@link BlogSearchIndex.SyncMark} or created
+ * after it are indexed again, and blogs deleted meanwhile are found by comparing the index's ids
+ * with the table's.
+ */
+@Component
+public class BlogSearchReindexer {
+    // updated_at is stamped at flush, before commit, so a slow transaction can land behind the mark
+    static final Duration CATCH_UP_SLACK = Duration.ofMinutes(1);
+    private static final Logger log = LoggerFactory.getLogger(BlogSearchReindexer.class);
+
+    private final BlogRepository blogRepository;
+    private final BlogSearchIndex searchIndex;
+    private final TaskExecutor taskExecutor;
+    private final int batchSize;
+    private final int parallelism;
+
+    public BlogSearchReindexer(
+            BlogRepository blogRepository,
+            BlogSearchIndex searchIndex,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor taskExecutor,
+            @Value("${application.search.rebuild.batch-size:500}") int batchSize,
+            @Value("${application.search.rebuild.parallelism:4}") int parallelism) {
+        this.blogRepository = blogRepository;
+        this.searchIndex = searchIndex;
+        this.taskExecutor = taskExecutor;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfIncomplete() {
+        Map<String, String> state = searchIndex.rebuildState();
+        boolean complete = Boolean.parseBoolean(state.get(BlogSearchIndex.REBUILD_COMPLETE));
+        long startId = Long.parseLong(state.getOrDefault(BlogSearchIndex.REBUILD_NEXT_ID, "1"));
+        Optional<BlogSearchIndex.SyncMark> mark = searchIndex.syncMark();
+        // A rebuild still to come covers its own ranges, so only the ones already indexed are caught up on
+        mark.ifPresent(m -> catchUp(m, complete ? blogRepository.findMaxId() : startId - 1));
+        if (!complete) rebuildFrom(startId);
+        if (mark.isPresent()) removeDeleted();
+    }
+
+    /** Indexes blogs up to {@code upToId} that were edited or created after the mark was committed. */
+    public void catchUp(BlogSearchIndex.SyncMark mark, long upToId) {
+        // Without an updated_at in the mark, only blogs created after it are known to be missing
+        LocalDateTime since = mark.updatedAt() == null ? LocalDateTime.now() : mark.updatedAt().minus(CATCH_UP_SLACK);
+        List<Long> ids = blogRepository.findIdsChangedSince(since, mark.id(), upToId);
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            searchIndex.indexAll(blogRepository.findAllWithAuthorAndHashtagsByIdIn(
+                    ids.subList(from, Math.min(from + batchSize, ids.size()))));
+        }
+        log.info("[SEARCH] caught up on {} blogs changed since {}", ids.size(), since);
+    }
+
+    /** Deletes blogs from the index that are no longer in the table. */
+    public void removeDeleted() {
+        Roaring64Bitmap stale = searchIndex.indexedIds();
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            ids = blogRepository.findIdsAfter(afterId, Limit.of(batchSize));
+            for (Long id : ids) stale.removeLong(id);
+            if (!ids.isEmpty()) afterId = ids.get(ids.size() - 1);
+        } while (ids.size() == batchSize);
+        stale.forEach(searchIndex::delete);
+        if (!stale.isEmpty()) log.info("[SEARCH] removed {} deleted blogs", stale.getLongCardinality());
+    }
+
+    public void rebuildFrom(long startId) {
+        long maxId = blogRepository.findMaxId();
+        log.info("[SEARCH] indexing blogs {}..{}", startId, maxId);
+        long nextId = startId;
+        while (nextId <= maxId) {
+            List<CompletableFuture<Void>> round = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism && nextId <= maxId; i++, nextId += batchSize) {
+                long from = nextId;
+                long to = nextId + batchSize - 1;
+                round.add(CompletableFuture.runAsync(
+                        () -> searchIndex.indexAll(blogRepository.findAllWithAuthorAndHashtagsByIdBetween(from, to)),
+                        taskExecutor));
+            }
+            CompletableFuture.allOf(round.toArray(CompletableFuture[]::new)).join();
+            searchIndex.checkpointRebuild(Map.of(BlogSearchIndex.REBUILD_NEXT_ID, Long.toString(nextId)));
+        }
+        searchIndex.checkpointRebuild(Map.of(BlogSearchIndex.REBUILD_COMPLETE, "true"));
+        log.info("[SEARCH] index rebuild complete");
+    }
+}
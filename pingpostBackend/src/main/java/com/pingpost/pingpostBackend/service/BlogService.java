@@ -2,36 +2,49 @@ package com.pingpost.pingpostBackend.service;
 
 import com.pingpost.pingpostBackend.dto.BlogRequest;
 import com.pingpost.pingpostBackend.dto.BlogResponse;
+import com.pingpost.pingpostBackend.dto.BlogSearchResult;
+import com.pingpost.pingpostBackend.dto.CursorPaginatedResponse;
 import com.pingpost.pingpostBackend.dto.PaginatedResponse;
-import com.pingpost.pingpostBackend.dto.AuthorDTO;
+import com.pingpost.pingpostBackend.dto.TrendingHashtag;
 import com.pingpost.pingpostBackend.entity.Blog;
 import com.pingpost.pingpostBackend.entity.User;
 import com.pingpost.pingpostBackend.exception.ResourceNotFoundException;
 import com.pingpost.pingpostBackend.repository.BlogRepository;
 import com.pingpost.pingpostBackend.repository.UserRepository;
-import com.pingpost.pingpostBackend.repository.LikeRepository;
-import com.pingpost.pingpostBackend.repository.CommentRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.file.AccessDeniedException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
 import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
+@Observed(name = "pingpost.service")
 public class BlogService {
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_HASHTAG_RESULTS = 500;
+    private static final Sort FEED_ORDER = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
     private final BlogRepository blogRepository;
     private final UserRepository userRepository;
-    private final LikeRepository likeRepository;
-    private final CommentRepository commentRepository;
+    private final BlogResponseAssembler blogResponseAssembler;
+    private final FeedService feedService;
+    private final BlogResponseCache blogResponseCache;
+    private final HashtagService hashtagService;
+    private final HashtagIndex hashtagIndex;
+    private final TrendingHashtags trendingHashtags;
+    private final BlogSearchIndex blogSearchIndex;
 
     @Transactional
     public BlogResponse publishBlog(BlogRequest request, String username) {
@@ -43,27 +56,29 @@ public class BlogService {
         blog.setContent(request.getContent());
         blog.setImageUrl(request.getImageUrl());
         blog.setAuthor(author);
-        blog.setHashtags(extractHashtags(request.getContent()));
+        blog.setHashtags(HashtagService.extract(request.getContent()));
 
         Blog saved = blogRepository.save(blog);
+        hashtagService.recordChange(Set.of(), saved.getHashtags());
+        trendingHashtags.recordUse(saved.getHashtags());
+        blogSearchIndex.index(saved);
+        feedService.fanOut(saved);
         return toResponse(saved);
     }
 
     public List<BlogResponse> getAllBlogs() {
-        return blogRepository.findAll().stream()
-            .map(this::toResponse)
-            .collect(Collectors.toList());
+        return blogResponseAssembler.toResponsesByIds(blogRepository.findAllIds());
     }
 
     public BlogResponse getBlogById(Long id) {
-        Blog blog = blogRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
-        return toResponse(blog);
+        return blogResponseCache.get(id, blogId -> blogResponseAssembler.toResponsesByIds(List.of(blogId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Blog not found")));
     }
 
     @Transactional
     public BlogResponse updateBlog(Long id, BlogRequest request, String username) throws AccessDeniedException {
-        Blog blog = blogRepository.findById(id)
+        Blog blog = blogRepository.findWithAuthorAndHashtagsById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
         if (!blog.getAuthor().getUsername().equals(username)) {
             throw new AccessDeniedException("You are not the author of this blog");
@@ -71,32 +86,50 @@ public class BlogService {
         blog.setTitle(request.getTitle());
         blog.setContent(request.getContent());
         blog.setImageUrl(request.getImageUrl());
-        blog.setHashtags(extractHashtags(request.getContent()));
+        Set<String> previousHashtags = Set.copyOf(blog.getHashtags());
+        blog.setHashtags(HashtagService.extract(request.getContent()));
+        hashtagService.recordChange(previousHashtags, blog.getHashtags());
+        trendingHashtags.recordUse(blog.getHashtags().stream().filter(tag -> !previousHashtags.contains(tag)).toList());
         Blog updated = blogRepository.save(blog);
+        blogSearchIndex.index(updated);
+        blogResponseCache.evict(id);
         return toResponse(updated);
     }
 
     @Transactional
     public void deleteBlog(Long id, String username) throws AccessDeniedException {
-        Blog blog = blogRepository.findById(id)
+        Blog blog = blogRepository.findWithAuthorAndHashtagsById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
         if (!blog.getAuthor().getUsername().equals(username)) {
             throw new AccessDeniedException("You are not the author of this blog");
         }
+        feedService.removeBlog(blog.getId());
+        hashtagService.recordChange(blog.getHashtags(), Set.of());
         blogRepository.delete(blog);
+        blogSearchIndex.delete(id);
+        blogResponseCache.evict(id);
     }
 
-    public List<BlogResponse> getBlogsByUser(String username) {
-        return blogRepository.findAll().stream()
-            .filter(blog -> blog.getAuthor().getUsername().equals(username))
-            .map(this::toResponse)
-            .collect(Collectors.toList());
+    public CursorPaginatedResponse<BlogResponse> getBlogsByUser(String username, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Long authorId = userRepository.findIdByUsername(username).orElse(null);
+        if (authorId == null) return toCursorPage(List.of(), pageSize);
+        // Seek over idx_blogs_author_created_at, one extra id tells whether another page exists
+        Limit limit = Limit.of(pageSize + 1);
+        List<Long> ids;
+        if (cursor == null || cursor.isBlank()) {
+            ids = blogRepository.findIdsByAuthorId(authorId, limit);
+        } else {
+            BlogCursor position = BlogCursor.decode(cursor);
+            ids = blogRepository.findIdsByAuthorIdBefore(authorId, position.createdAt(), position.id(), limit);
+        }
+        return toCursorPage(ids, pageSize);
     }
 
     public PaginatedResponse<BlogResponse> getBlogsPaginated(int page, int size) {
-        Page<Blog> blogPage = blogRepository.findAll(PageRequest.of(page, size));
+        Page<Long> blogPage = blogRepository.findPageOfIds(PageRequest.of(page, size, FEED_ORDER));
         PaginatedResponse<BlogResponse> response = new PaginatedResponse<>();
-        response.setContent(blogPage.getContent().stream().map(this::toResponse).collect(Collectors.toList()));
+        response.setContent(blogResponseAssembler.toResponsesByIds(blogPage.getContent()));
         response.setTotalPages(blogPage.getTotalPages());
         response.setTotalElements(blogPage.getTotalElements());
         response.setSize(blogPage.getSize());
@@ -104,46 +137,73 @@ public class BlogService {
         return response;
     }
 
+    public CursorPaginatedResponse<BlogResponse> getBlogsByCursor(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // Fetch one extra id to find out whether another page exists without a COUNT(*)
+        Limit limit = Limit.of(pageSize + 1);
+        List<Long> ids;
+        if (cursor == null || cursor.isBlank()) {
+            ids = blogRepository.findFeedIds(limit);
+        } else {
+            BlogCursor position = BlogCursor.decode(cursor);
+            ids = blogRepository.findFeedIdsBefore(position.createdAt(), position.id(), limit);
+        }
+        return toCursorPage(ids, pageSize);
+    }
+
+    private CursorPaginatedResponse<BlogResponse> toCursorPage(List<Long> ids, int pageSize) {
+        boolean hasNext = ids.size() > pageSize;
+        List<BlogResponse> content = blogResponseAssembler.toResponsesByIds(hasNext ? ids.subList(0, pageSize) : ids);
+
+        CursorPaginatedResponse<BlogResponse> response = new CursorPaginatedResponse<>();
+        response.setContent(content);
+        response.setSize(pageSize);
+        response.setHasNext(hasNext);
+        if (hasNext && !content.isEmpty()) {
+            BlogResponse last = content.get(content.size() - 1);
+            response.setNextCursor(new BlogCursor(last.getCreatedAt(), last.getId()).encode());
+        }
+        return response;
+    }
+
     public List<BlogResponse> getBlogsByHashtag(String hashtag) {
-        List<Blog> blogs = blogRepository.findByHashtagsIgnoreCase(hashtag);
-        return blogs.stream().map(this::toResponse).collect(Collectors.toList());
+        // Hashtags are stored lowercase, so an exact match can use idx_blog_hashtags_hashtag; only the newest are listed
+        return blogResponseAssembler.toResponsesByIds(
+                blogRepository.findIdsByHashtag(HashtagService.normalize(hashtag), Limit.of(MAX_HASHTAG_RESULTS)));
     }
 
-    public List<String> getHashtagSuggestions(String prefix) {
-        if (prefix == null || prefix.isEmpty()) return List.of();
-        return blogRepository.findDistinctHashtagsByPrefix(prefix);
+    public PaginatedResponse<BlogSearchResult> searchBlogs(String query, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, BlogSearchIndex.MAX_PAGE_SIZE));
+        BlogSearchIndex.Result result = blogSearchIndex.search(query, page, pageSize);
+        List<Long> ids = result.hits().stream().map(BlogSearchIndex.Hit::blogId).toList();
+        Map<Long, BlogResponse> blogsById = new HashMap<>();
+        for (BlogResponse blog : blogResponseAssembler.toResponsesByIds(ids)) blogsById.put(blog.getId(), blog);
+
+        List<BlogSearchResult> content = new ArrayList<>(ids.size());
+        for (BlogSearchIndex.Hit hit : result.hits()) {
+            BlogResponse blog = blogsById.get(hit.blogId());
+            // A hit can briefly outlive its row until the delete reaches the index
+            if (blog != null) content.add(new BlogSearchResult(blog, hit.score(), hit.highlight()));
+        }
+        long reachable = Math.min(result.totalHits(), BlogSearchIndex.MAX_RESULT_WINDOW);
+        PaginatedResponse<BlogSearchResult> response = new PaginatedResponse<>();
+        response.setContent(content);
+        response.setTotalElements(result.totalHits());
+        response.setTotalPages((int) ((reachable + pageSize - 1) / pageSize));
+        response.setSize(pageSize);
+        response.setNumber(page);
+        return response;
     }
 
-    private BlogResponse toResponse(Blog blog) {
-        BlogResponse resp = new BlogResponse();
-        resp.setId(blog.getId());
-        resp.setTitle(blog.getTitle());
-        resp.setContent(blog.getContent());
-        resp.setImageUrl(blog.getImageUrl());
-        resp.setAuthor(toAuthorDTO(blog.getAuthor()));
-        resp.setCreatedAt(blog.getCreatedAt());
-        resp.setUpdatedAt(blog.getUpdatedAt());
-        resp.setLikeCount((int) likeRepository.countByBlog(blog));
-        resp.setCommentCount((int) commentRepository.countByBlog(blog));
-        return resp;
+    public List<String> getHashtagSuggestions(String prefix, int limit) {
+        return hashtagIndex.suggest(prefix, limit);
     }
 
-    private AuthorDTO toAuthorDTO(User user) {
-        AuthorDTO dto = new AuthorDTO();
-        dto.setUsername(user.getUsername());
-        dto.setFullName(user.getFullName());
-        dto.setProfilePicture(user.getProfilePicture());
-        return dto;
+    public List<TrendingHashtag> getTrendingHashtags(int limit) {
+        return trendingHashtags.top(limit);
     }
 
-    private Set<String> extractHashtags(String content) {
-        Set<String> hashtags = new java.util.HashSet<>();
-        if (content == null) return hashtags;
-        Pattern pattern = Pattern.compile("#(\\w+)");
-        Matcher matcher = pattern.matcher(content);
-        while (matcher.find()) {
-            hashtags.add(matcher.group(1).toLowerCase());
-        }
-        return hashtags;
+    private BlogResponse toResponse(Blog blog) {
+        return blogResponseAssembler.toResponse(blog);
     }
 } 
\ No newline at end of file
@@ -2,24 +2,34 @@ package com.pingpost.pingpostBackend.service;
 
 import com.pingpost.pingpostBackend.dto.CommentRequest;
 import com.pingpost.pingpostBackend.dto.CommentResponse;
+import com.pingpost.pingpostBackend.dto.CursorPaginatedResponse;
 import com.pingpost.pingpostBackend.entity.Blog;
 import com.pingpost.pingpostBackend.entity.Comment;
 import com.pingpost.pingpostBackend.entity.User;
 import com.pingpost.pingpostBackend.exception.ResourceNotFoundException;
 import com.pingpost.pingpostBackend.repository.BlogRepository;
 import com.pingpost.pingpostBackend.repository.CommentRepository;
+import com.pingpost.pingpostBackend.repository.projection.ReplyCount;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Observed(name = "pingpost.service")
 public class CommentService {
+    static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final BlogRepository blogRepository;
+    private final BlogResponseCache blogResponseCache;
 
     @Transactional
     public CommentResponse addComment(Long blogId, CommentRequest request, User user) {
@@ -29,16 +39,57 @@ public class CommentService {
         comment.setContent(request.getContent());
         comment.setAuthor(user);
         comment.setBlog(blog);
+        if (request.getParentId() != null) comment.setParentId(threadOf(request.getParentId(), blogId));
         Comment saved = commentRepository.save(comment);
+        blogRepository.adjustCommentCount(blogId, 1);
+        blogResponseCache.evict(blogId);
         return toResponse(saved);
     }
 
     public List<CommentResponse> getComments(Long blogId) {
-        return commentRepository.findByBlogId(blogId).stream()
+        return commentRepository.findAllWithAuthorByBlogId(blogId).stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
+    /** One page of a blog's top-level comments, oldest first, with their reply counts. */
+    public CursorPaginatedResponse<CommentResponse> getThreads(Long blogId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+        List<Comment> threads;
+        if (cursor == null || cursor.isBlank()) {
+            threads = commentRepository.findThreadsWithAuthor(blogId, limit);
+        } else {
+            BlogCursor position = BlogCursor.decode(cursor);
+            threads = commentRepository.findThreadsWithAuthorAfter(blogId, position.createdAt(), position.id(), limit);
+        }
+        CursorPaginatedResponse<CommentResponse> page = toCursorPage(threads, pageSize);
+        if (!page.getContent().isEmpty()) {
+            Map<Long, Long> replyCounts = new HashMap<>();
+            for (ReplyCount count : commentRepository.countRepliesByParentIdIn(
+                    page.getContent().stream().map(CommentResponse::getId).toList())) {
+                replyCounts.put(count.parentId(), count.count());
+            }
+            page.getContent().forEach(comment -> comment.setReplyCount(replyCounts.getOrDefault(comment.getId(), 0L)));
+        }
+        return page;
+    }
+
+    /** One page of replies to a top-level comment, oldest first. */
+    public CursorPaginatedResponse<CommentResponse> getReplies(Long blogId, Long commentId, String cursor, int size) {
+        Long threadId = threadOf(commentId, blogId);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+        List<Comment> replies;
+        if (cursor == null || cursor.isBlank()) {
+            replies = commentRepository.findRepliesWithAuthor(threadId, limit);
+        } else {
+            BlogCursor position = BlogCursor.decode(cursor);
+            replies = commentRepository.findRepliesWithAuthorAfter(threadId, position.createdAt(), position.id(), limit);
+        }
+        return toCursorPage(replies, pageSize);
+    }
+
     @Transactional
     public void deleteComment(Long commentId, User user) {
         Comment comment = commentRepository.findById(commentId)
@@ -46,12 +97,16 @@ public class CommentService {
         if (!comment.getAuthor().getId().equals(user.getId())) {
             throw new RuntimeException("You are not the author of this comment");
         }
+        // Deleting a thread takes its replies with it
+        int replies = comment.getParentId() == null ? commentRepository.deleteByParentId(commentId) : 0;
         commentRepository.delete(comment);
+        blogRepository.adjustCommentCount(comment.getBlog().getId(), -1 - replies);
+        blogResponseCache.evict(comment.getBlog().getId());
     }
 
     @Transactional
     public CommentResponse updateComment(Long blogId, Long commentId, CommentRequest request, User user) {
-        Comment comment = commentRepository.findById(commentId)
+        Comment comment = commentRepository.findWithAuthorById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
         if (!comment.getAuthor().getId().equals(user.getId())) {
             throw new RuntimeException("You are not the author of this comment");
@@ -64,6 +119,30 @@ public class CommentService {
         return toResponse(updated);
     }
 
+    // Replying to a reply joins the thread of the comment it replies to
+    private Long threadOf(Long commentId, Long blogId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
+        if (!comment.getBlog().getId().equals(blogId)) {
+            throw new ResourceNotFoundException("Comment not found in this blog");
+        }
+        return comment.getParentId() == null ? comment.getId() : comment.getParentId();
+    }
+
+    private CursorPaginatedResponse<CommentResponse> toCursorPage(List<Comment> comments, int pageSize) {
+        boolean hasNext = comments.size() > pageSize;
+        List<Comment> content = hasNext ? comments.subList(0, pageSize) : comments;
+        CursorPaginatedResponse<CommentResponse> response = new CursorPaginatedResponse<>();
+        response.setContent(content.stream().map(this::toResponse).toList());
+        response.setSize(pageSize);
+        response.setHasNext(hasNext);
+        if (hasNext) {
+            Comment last = content.get(content.size() - 1);
+            response.setNextCursor(new BlogCursor(last.getCreatedAt(), last.getId()).encode());
+        }
+        return response;
+    }
+
     private CommentResponse toResponse(Comment comment) {
         CommentResponse resp = new CommentResponse();
         resp.setId(comment.getId());
@@ -71,6 +150,7 @@ public class CommentService {
         resp.setAuthorUsername(comment.getAuthor().getUsername());
         resp.setCreatedAt(comment.getCreatedAt());
         resp.setBlogId(comment.getBlog().getId());
+        resp.setParentId(comment.getParentId());
         return resp;
     }
 } 
\ No newline at end of file
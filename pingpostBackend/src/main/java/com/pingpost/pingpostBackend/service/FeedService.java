@@ -0,0 +1,163 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.dto.BlogResponse;
+import com.pingpost.pingpostBackend.dto.CursorPaginatedResponse;
+import com.pingpost.pingpostBackend.entity.Blog;
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.BlogRepository;
+import com.pingpost.pingpostBackend.repository.FollowRepository;
+import com.pingpost.pingpostBackend.repository.TimelineRepository;
+import com.pingpost.pingpostBackend.repository.UserRepository;
+import com.pingpost.pingpostBackend.repository.projection.FeedItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Home timeline built on the follow graph with a hybrid strategy. Blogs of normal authors are
+ * fanned out on write into timeline_entries; blogs of authors with more than
+ * {@code application.feed.fanout-threshold} followers are merged in on read.
+ */
+@Service
+public class FeedService {
+    private static final Logger log = LoggerFactory.getLogger(FeedService.class);
+    private static final Comparator<FeedItem> NEWEST_FIRST = Comparator
+            .comparing(FeedItem::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(FeedItem::blogId, Comparator.reverseOrder());
+
+    private final TimelineRepository timelineRepository;
+    private final BlogRepository blogRepository;
+    private final UserRepository userRepository;
+    private final FollowRepository followRepository;
+    private final BlogResponseAssembler blogResponseAssembler;
+    private final long fanoutThreshold;
+    private final int retentionDays;
+
+    public FeedService(
+            TimelineRepository timelineRepository,
+            BlogRepository blogRepository,
+            UserRepository userRepository,
+            FollowRepository followRepository,
+            BlogResponseAssembler blogResponseAssembler,
+            @Value("${application.feed.fanout-threshold:10000}") long fanoutThreshold,
+            @Value("${application.feed.timeline-retention-days:30}") int retentionDays) {
+        this.timelineRepository = timelineRepository;
+        this.blogRepository = blogRepository;
+        this.userRepository = userRepository;
+        this.followRepository = followRepository;
+        this.blogResponseAssembler = blogResponseAssembler;
+        this.fanoutThreshold = fanoutThreshold;
+        this.retentionDays = retentionDays;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPaginatedResponse<BlogResponse> getFeed(User user, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, BlogService.MAX_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+        BlogCursor position = cursor == null || cursor.isBlank() ? null : BlogCursor.decode(cursor);
+
+        List<FeedItem> items = new ArrayList<>(position == null
+                ? timelineRepository.findFeedItems(user.getId(), limit)
+                : timelineRepository.findFeedItemsBefore(user.getId(), position.createdAt(), position.id(), limit));
+
+        List<Long> highFanoutAuthors = userRepository.findFollowedHighFanoutAuthorIds(user.getId());
+        if (!highFanoutAuthors.isEmpty()) {
+            items.addAll(position == null
+                    ? blogRepository.findFeedItemsByAuthorIn(highFanoutAuthors, limit)
+                    : blogRepository.findFeedItemsByAuthorInBefore(highFanoutAuthors, position.createdAt(), position.id(), limit));
+        }
+
+        List<FeedItem> merged = merge(items, pageSize + 1);
+        boolean hasNext = merged.size() > pageSize;
+        List<FeedItem> page = hasNext ? merged.subList(0, pageSize) : merged;
+
+        CursorPaginatedResponse<BlogResponse> response = new CursorPaginatedResponse<>();
+        response.setContent(blogResponseAssembler.toResponsesByIds(page.stream().map(FeedItem::blogId).toList()));
+        response.setSize(pageSize);
+        response.setHasNext(hasNext);
+        if (hasNext) {
+            FeedItem last = page.get(page.size() - 1);
+            response.setNextCursor(new BlogCursor(last.createdAt(), last.blogId()).encode());
+        }
+        return response;
+    }
+
+    // Runs inside the publishing transaction so a blog is never visible without its timeline rows
+    @Transactional
+    public void fanOut(Blog blog) {
+        User author = blog.getAuthor();
+        if (!author.isHighFanout() && followRepository.countByIdUserId(author.getId()) > fanoutThreshold) {
+            // Once an author crosses the threshold they stay on the read path, so no posts are lost
+            userRepository.markHighFanout(author.getId());
+            author.setHighFanout(true);
+        }
+        timelineRepository.deliverToAuthor(author.getId(), blog.getId(), blog.getCreatedAt());
+        if (!author.isHighFanout()) {
+            timelineRepository.fanOutToFollowers(blog.getId(), author.getId(), blog.getCreatedAt());
+        }
+    }
+
+    @Transactional
+    public void removeBlog(Long blogId) {
+        timelineRepository.deleteByBlogId(blogId);
+    }
+
+    // Runs once the follow change has committed. A follow and a quick unfollow may still be handled
+    // out of order, so the backfill only copies blogs while the follow row exists.
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onFollowChanged(FollowChangedEvent event) {
+        if (!event.following()) {
+            timelineRepository.deleteByUserIdAndAuthorId(event.followerId(), event.authorId());
+            return;
+        }
+        if (userRepository.findById(event.authorId()).map(User::isHighFanout).orElse(true)) return;
+        int delivered = timelineRepository.backfillFromAuthor(event.followerId(), event.authorId(), retentionHorizon());
+        log.debug("[FEED] backfilled {} entries for {} after following {}", delivered, event.followerId(), event.authorId());
+    }
+
+    @Async
+    @Transactional
+    public void rebuildTimeline(Long userId) {
+        timelineRepository.deleteByUserId(userId);
+        int delivered = timelineRepository.rebuildFromFollowedAuthors(userId, retentionHorizon());
+        log.info("[FEED] rebuilt timeline of user {} with {} entries", userId, delivered);
+    }
+
+    @Scheduled(cron = "${application.feed.prune-cron:0 15 4 * * *}")
+    @Transactional
+    public void pruneTimelines() {
+        int removed = timelineRepository.deleteOlderThan(retentionHorizon());
+        log.info("[FEED] pruned {} timeline entries older than {} days", removed, retentionDays);
+    }
+
+    private LocalDateTime retentionHorizon() {
+        return LocalDateTime.now().minusDays(retentionDays);
+    }
+
+    private List<FeedItem> merge(List<FeedItem> items, int limit) {
+        // An author may have been fanned out before turning high fan-out, so drop duplicate blogs
+        Set<Long> seen = new HashSet<>();
+        return items.stream()
+                .sorted(NEWEST_FIRST)
+                .filter(item -> seen.add(item.blogId()))
+                .limit(limit)
+                .toList();
+    }
+}
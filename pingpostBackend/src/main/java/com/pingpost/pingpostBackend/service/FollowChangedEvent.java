@@ -0,0 +1,5 @@
+package com.pingpost.pingpostBackend.service;
+
+/** Published inside a follow or unfollow transaction; listeners act once it has committed. */
+public record FollowChangedEvent(Long followerId, Long authorId, boolean following) {
+}
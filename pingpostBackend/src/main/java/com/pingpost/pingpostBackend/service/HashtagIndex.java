@@ -0,0 +1,109 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.repository.HashtagRepository;
+import com.pingpost.pingpostBackend.repository.projection.HashtagUsage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * In-memory snapshot of the hashtags table for autocomplete. Names are kept in a sorted array so
+ * a prefix maps to a contiguous range found by binary search; one and two character prefixes,
+ * whose ranges can span most of the table, have their most used tags precomputed. The snapshot
+ * is rebuilt on a fixed delay and swapped atomically, so lookups never touch the database.
+ */
+@Component
+public class HashtagIndex {
+    static final int MAX_SUGGESTIONS = 50;
+    private static final int PRECOMPUTED_PREFIX_LENGTH = 2;
+
+    private final HashtagRepository hashtagRepository;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public HashtagIndex(HashtagRepository hashtagRepository) {
+        this.hashtagRepository = hashtagRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${application.hashtags.refresh-interval-ms:30000}",
+            initialDelayString = "${application.hashtags.refresh-interval-ms:30000}")
+    public void refresh() {
+        snapshot = Snapshot.of(hashtagRepository.findAllInUse());
+    }
+
+    /** Hashtags starting with {@code prefix}, most used first. */
+    public List<String> suggest(String prefix, int limit) {
+        String key = HashtagService.normalize(prefix);
+        if (key.isEmpty()) return List.of();
+        int k = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        Snapshot current = snapshot;
+
+        if (key.length() <= PRECOMPUTED_PREFIX_LENGTH) {
+            List<String> top = current.topByShortPrefix().getOrDefault(key, List.of());
+            return top.subList(0, Math.min(k, top.size()));
+        }
+
+        String[] names = current.names();
+        int from = lowerBound(names, key);
+        int to = lowerBound(names, key + Character.MAX_VALUE);
+        // Min-heap of the k best positions seen so far
+        PriorityQueue<Integer> best = new PriorityQueue<>(k + 1, current.byPopularity().reversed());
+        for (int i = from; i < to; i++) {
+            best.offer(i);
+            if (best.size() > k) best.poll();
+        }
+        List<Integer> positions = new ArrayList<>(best);
+        positions.sort(current.byPopularity());
+        return positions.stream().map(i -> names[i]).toList();
+    }
+
+    private static int lowerBound(String[] names, String key) {
+        int lo = 0, hi = names.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (names[mid].compareTo(key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private record Snapshot(String[] names, long[] counts, Map<String, List<String>> topByShortPrefix) {
+        static final Snapshot EMPTY = new Snapshot(new String[0], new long[0], Map.of());
+
+        static Snapshot of(List<HashtagUsage> usages) {
+            HashtagUsage[] sorted = usages.toArray(HashtagUsage[]::new);
+            Arrays.sort(sorted, Comparator.comparing(HashtagUsage::name));
+            String[] names = new String[sorted.length];
+            long[] counts = new long[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                names[i] = sorted[i].name();
+                counts[i] = sorted[i].usageCount();
+            }
+            Snapshot partial = new Snapshot(names, counts, Map.of());
+
+            Integer[] ranked = new Integer[names.length];
+            for (int i = 0; i < ranked.length; i++) ranked[i] = i;
+            Arrays.sort(ranked, partial.byPopularity());
+            Map<String, List<String>> top = new HashMap<>();
+            for (int i : ranked) {
+                for (int len = 1; len <= Math.min(PRECOMPUTED_PREFIX_LENGTH, names[i].length()); len++) {
+                    List<String> list = top.computeIfAbsent(names[i].substring(0, len), p -> new ArrayList<>());
+                    if (list.size() < MAX_SUGGESTIONS) list.add(names[i]);
+                }
+            }
+            top.replaceAll((prefix, list) -> List.copyOf(list));
+            return new Snapshot(names, counts, top);
+        }
+
+        // Most used first, ties in alphabetical order
+        Comparator<Integer> byPopularity() {
+            return (a, b) -> counts[a] != counts[b] ? Long.compare(counts[b], counts[a]) : names[a].compareTo(names[b]);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+public class HashtagService {
+    private static final Logger log = LoggerFactory.getLogger(HashtagService.class);
+    private static final Pattern HASHTAG = Pattern.compile("#(\\w+)");
+    private final HashtagRepository hashtagRepository;
+    private final HashtagIndex hashtagIndex;
+
+    public static String normalize(String hashtag) {
+        if (hashtag == null) return "";
+        String trimmed = hashtag.trim();
+        if (trimmed.startsWith("#")) trimmed = trimmed.substring(1);
+        return trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    /** The distinct hashtags in a post body, normalized. */
+    public static Set<String> extract(String content) {
+        Set<String> hashtags = new HashSet<>();
+        if (content == null) return hashtags;
+        Matcher matcher = HASHTAG.matcher(content);
+        while (matcher.find()) {
+            hashtags.add(matcher.group(1).toLowerCase(Locale.ROOT));
+        }
+        return hashtags;
+    }
+
+    // Joins the blog write transaction so counts and blog_hashtags change together
+    @Transactional
+    public void recordChange(Collection<String> before, Collection<String> after) {
+        Set<String> removed = new HashSet<>(before);
+        removed.removeAll(after);
+        Set<String> added = new HashSet<>(after);
+        added.removeAll(before);
+        for (String name : removed) {
+            hashtagRepository.adjustUsage(name, -1);
+        }
+        for (String name : added) {
+            hashtagRepository.incrementOrInsert(name);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void seedAndLoadIndex() {
+        if (hashtagRepository.count() == 0) {
+            int seeded = hashtagRepository.insertUsageFromBlogs();
+            if (seeded > 0) log.info("[HASHTAGS] seeded {} hashtags from existing blogs", seeded);
+        }
+        hashtagIndex.refresh();
+    }
+}
@@ -1,52 +1,112 @@
 package com.pingpost.pingpostBackend.service;
 
+import com.pingpost.pingpostBackend.dto.BlogResponse;
 import com.pingpost.pingpostBackend.entity.Blog;
-import com.pingpost.pingpostBackend.entity.Like;
 import com.pingpost.pingpostBackend.entity.User;
 import com.pingpost.pingpostBackend.exception.ResourceNotFoundException;
 import com.pingpost.pingpostBackend.repository.BlogRepository;
 import com.pingpost.pingpostBackend.repository.LikeRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
+@Observed(name = "pingpost.service")
 public class LikeService {
     private final LikeRepository likeRepository;
     private final BlogRepository blogRepository;
+    private final BlogResponseCache blogResponseCache;
+    private final TrendingHashtags trendingHashtags;
+    private final LikeWriteBuffer likeWriteBuffer;
+    private final LikedBlogSets likedBlogSets;
 
     @Transactional
     public void likeBlog(Long blogId, User user) {
+        if (likeWriteBuffer.isEnabled()) {
+            Long authorId = blogRepository.findAuthorIdById(blogId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
+            if (authorId.equals(user.getId())) {
+                throw new IllegalArgumentException("You cannot like your own post");
+            }
+            likeWriteBuffer.like(user.getId(), blogId);
+            return;
+        }
+        // A repeated like is answered from the user's liked set without touching the database
+        if (likedBlogSets.contains(user, blogId)) return;
         Blog blog = blogRepository.findById(blogId)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
         if (blog.getAuthor().getId().equals(user.getId())) {
             throw new IllegalArgumentException("You cannot like your own post");
         }
-        if (!likeRepository.existsByUserAndBlog(user, blog)) {
-            Like like = new Like();
-            like.setUser(user);
-            like.setBlog(blog);
-            likeRepository.save(like);
-        }
+        likedBlogSets.add(user.getId(), blogId);
+        if (likeRepository.insertIgnore(user.getId(), blogId, LocalDateTime.now()) == 0) return;
+        blogRepository.adjustLikeCount(blogId, 1);
+        blogResponseCache.evict(blogId);
+        trendingHashtags.recordLike(blog.getHashtags());
     }
 
     @Transactional
     public void unlikeBlog(Long blogId, User user) {
+        if (likeWriteBuffer.isEnabled()) {
+            blogRepository.findAuthorIdById(blogId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
+            likeWriteBuffer.unlike(user.getId(), blogId);
+            return;
+        }
+        if (!likedBlogSets.contains(user, blogId)) return;
         Blog blog = blogRepository.findById(blogId)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
-        likeRepository.deleteByUserAndBlog(user, blog);
+        if (likeRepository.deleteByUserAndBlog(user, blog) > 0) {
+            blogRepository.adjustLikeCount(blogId, -1);
+            blogResponseCache.evict(blogId);
+        }
+        likedBlogSets.remove(user.getId(), blogId);
     }
 
     public long getLikeCount(Long blogId) {
-        Blog blog = blogRepository.findById(blogId)
+        return blogRepository.findLikeCountById(blogId)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
-        return likeRepository.countByBlog(blog);
+    }
+
+    /** The given blogs that the user has liked, in request order; only the first MAX_PAGE_SIZE ids are looked up. */
+    public List<Long> getLikedBlogIds(List<Long> blogIds, User user) {
+        List<Long> lookup = blogIds.stream().distinct().limit(BlogService.MAX_PAGE_SIZE).toList();
+        Set<Long> liked = likedAmong(lookup, user.getId());
+        return lookup.stream().filter(liked::contains).toList();
+    }
+
+    /** Sets likedByMe on freshly assembled responses; never pass responses from BlogResponseCache. */
+    public void markLikedByMe(List<BlogResponse> blogs, User user) {
+        if (user == null || blogs.isEmpty()) return;
+        Set<Long> liked = likedAmong(blogs.stream().map(BlogResponse::getId).toList(), user.getId());
+        blogs.forEach(blog -> blog.setLikedByMe(liked.contains(blog.getId())));
     }
 
     public boolean isBlogLikedByUser(Long blogId, User user) {
-        Blog blog = blogRepository.findById(blogId)
-                .orElseThrow(() -> new ResourceNotFoundException("Blog not found"));
-        return likeRepository.existsByUserAndBlog(user, blog);
+        if (likeWriteBuffer.isEnabled()) {
+            Boolean buffered = likeWriteBuffer.pendingState(user.getId(), blogId);
+            if (buffered != null) return buffered;
+        }
+        return likedBlogSets.contains(user, blogId);
+    }
+
+    private Set<Long> likedAmong(List<Long> blogIds, Long userId) {
+        if (blogIds.isEmpty()) return Set.of();
+        Set<Long> liked = new HashSet<>(likeRepository.findLikedBlogIds(userId, blogIds));
+        if (likeWriteBuffer.isEnabled()) {
+            for (Long blogId : blogIds) {
+                Boolean buffered = likeWriteBuffer.pendingState(userId, blogId);
+                if (Boolean.TRUE.equals(buffered)) liked.add(blogId);
+                else if (Boolean.FALSE.equals(buffered)) liked.remove(blogId);
+            }
+        }
+        return liked;
     }
-} 
\ No newline at end of file
+}
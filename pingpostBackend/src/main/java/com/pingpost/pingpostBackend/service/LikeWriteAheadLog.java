@@ -0,0 +1,186 @@
+package com.pingpost.pingpostBackend.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of buffered like operations, split into numbered segments. Appends are
+ * fsynced before they return, with concurrent appenders sharing a single force. A flush seals
+ * the current segment and deletes it once its operations are in the database; whatever is
+ * still on disk at startup is replayed.
+ */
+public class LikeWriteAheadLog implements AutoCloseable {
+    private static final Pattern SEGMENT_NAME = Pattern.compile("likes-(\\d+)\\.log");
+
+    public record Entry(long userId, long blogId, boolean liked, long at) {
+    }
+
+    private final Path dir;
+    private final List<Entry> recovered = new ArrayList<>();
+    private Segment current;
+
+    public LikeWriteAheadLog(Path dir) {
+        this.dir = dir;
+        long lastSeq = 0;
+        try {
+            Files.createDirectories(dir);
+            for (Path path : segments()) {
+                lastSeq = sequence(path);
+                read(path, recovered::add);
+            }
+            current = new Segment(lastSeq + 1, dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Operations left over from a previous run, oldest first. */
+    public List<Entry> recovered() {
+        return recovered;
+    }
+
+    /** Returns once the entry is on disk. */
+    public void append(Entry entry) {
+        byte[] line = ((entry.liked() ? "+" : "-") + entry.userId() + "," + entry.blogId() + "," + entry.at() + "\n")
+                .getBytes(StandardCharsets.US_ASCII);
+        Segment segment;
+        long end;
+        synchronized (this) {
+            segment = current;
+            end = segment.write(line);
+        }
+        segment.syncTo(end);
+    }
+
+    /** Starts a new segment and returns the sequence number of the sealed one. */
+    public long rotate() {
+        Segment sealed;
+        synchronized (this) {
+            sealed = current;
+            try {
+                current = new Segment(sealed.seq + 1, dir);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        sealed.close();
+        return sealed.seq;
+    }
+
+    /** Deletes every sealed segment up to and including {@code seq}. */
+    public void deleteThrough(long seq) {
+        try {
+            for (Path path : segments()) {
+                if (sequence(path) <= seq) Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        current.close();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(path -> SEGMENT_NAME.matcher(path.getFileName().toString()).matches())
+                    .sorted((a, b) -> Long.compare(sequence(a), sequence(b)))
+                    .toList();
+        }
+    }
+
+    private static long sequence(Path path) {
+        Matcher matcher = SEGMENT_NAME.matcher(path.getFileName().toString());
+        if (!matcher.matches()) throw new IllegalArgumentException(path.toString());
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static void read(Path path, Consumer<Entry> sink) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.length() > 1 ? line.substring(1).split(",") : new String[0];
+                // A torn write at the tail of a segment was never acknowledged
+                if (parts.length != 3 || (line.charAt(0) != '+' && line.charAt(0) != '-')) continue;
+                try {
+                    sink.accept(new Entry(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                            line.charAt(0) == '+', Long.parseLong(parts[2])));
+                } catch (NumberFormatException ignored) {
+                    // same as above
+                }
+            }
+        }
+    }
+
+    private static final class Segment {
+        private final long seq;
+        private final FileChannel channel;
+        // Appends keep going while a force is in progress; the next force covers them all
+        private final AtomicLong written;
+        private long synced;
+
+        Segment(long seq, Path dir) throws IOException {
+            this.seq = seq;
+            this.channel = FileChannel.open(dir.resolve("likes-" + seq + ".log"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            this.written = new AtomicLong(channel.size());
+            this.synced = written.get();
+        }
+
+        // Called under the log's lock, so writes are never interleaved
+        long write(byte[] bytes) {
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) channel.write(buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return written.addAndGet(bytes.length);
+        }
+
+        void syncTo(long end) {
+            synchronized (this) {
+                if (synced >= end) return;
+                long target = written.get();
+                try {
+                    channel.force(false);
+                } catch (ClosedChannelException e) {
+                    // Sealed in the meantime, and close() forces before closing
+                    return;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                synced = target;
+            }
+        }
+
+        synchronized void close() {
+            try {
+                if (channel.isOpen()) {
+                    channel.force(false);
+                    synced = written.get();
+                    channel.close();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.pingpost.pingpostBackend.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind buffer for likes, enabled with {@code application.likes.write-behind.enabled}.
+ * Likes and unlikes are appended to a local write-ahead log and kept as the latest desired
+ * state per (user, blog), so a like followed by an unlike collapses into one operation. The
+ * buffer is flushed every {@code flush-interval-ms}, or early once {@code max-pending}
+ * operations are waiting, as JDBC batches in a single transaction; like_count is adjusted by
+ * the rows each statement actually changed.
+ */
+@Component
+public class LikeWriteBuffer {
+    private static final Logger log = LoggerFactory.getLogger(LikeWriteBuffer.class);
+    // Selecting from blogs skips likes on blogs deleted since they were buffered; existing likes are ignored
+    private static final String INSERT_LIKE = "INSERT IGNORE INTO likes (user_id, blog_id, created_at) " +
+            "SELECT ?, b.id, ? FROM blogs b WHERE b.id = ?";
+    private static final String DELETE_LIKE = "DELETE FROM likes WHERE user_id = ? AND blog_id = ?";
+    private static final String ADJUST_LIKE_COUNT =
+            "UPDATE blogs SET like_count = like_count + ? WHERE id = ? AND like_count + ? >= 0";
+    private static final String RECOUNT_LIKES =
+            "UPDATE blogs SET like_count = (SELECT COUNT(*) FROM likes l WHERE l.blog_id = blogs.id) WHERE id = ?";
+
+    record Key(long userId, long blogId) {
+    }
+
+    record Op(boolean liked, long at) {
+    }
+
+    private final boolean enabled;
+    private final int maxPending;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlogResponseCache blogResponseCache;
+    private final TrendingHashtags trendingHashtags;
+    private final LikedBlogSets likedBlogSets;
+    private final TaskExecutor taskExecutor;
+    private final LikeWriteAheadLog writeAheadLog;
+    // Appends hold the read lock, so a flush swaps the buffer and the log segment atomically
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean earlyFlushQueued = new AtomicBoolean();
+    private volatile ConcurrentHashMap<Key, Op> pending = new ConcurrentHashMap<>();
+    // Still answers pendingState until the liked sets have caught up with the running flush
+    private volatile Map<Key, Op> flushing = Map.of();
+
+    @Autowired
+    public LikeWriteBuffer(
+            @Value("${application.likes.write-behind.enabled:false}") boolean enabled,
+            @Value("${application.likes.write-behind.log-dir:data/like-log}") Path logDir,
+            @Value("${application.likes.write-behind.max-pending:5000}") int maxPending,
+            DataSource dataSource,
+            TransactionTemplate transactionTemplate,
+            BlogResponseCache blogResponseCache,
+            TrendingHashtags trendingHashtags,
+            LikedBlogSets likedBlogSets,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor taskExecutor) {
+        this(enabled ? new LikeWriteAheadLog(logDir) : null, maxPending, dataSource, transactionTemplate,
+                blogResponseCache, trendingHashtags, likedBlogSets, taskExecutor);
+    }
+
+    LikeWriteBuffer(
+            LikeWriteAheadLog writeAheadLog,
+            int maxPending,
+            DataSource dataSource,
+            TransactionTemplate transactionTemplate,
+            BlogResponseCache blogResponseCache,
+            TrendingHashtags trendingHashtags,
+            LikedBlogSets likedBlogSets,
+            TaskExecutor taskExecutor) {
+        this.enabled = writeAheadLog != null;
+        this.writeAheadLog = writeAheadLog;
+        this.maxPending = maxPending;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.blogResponseCache = blogResponseCache;
+        this.trendingHashtags = trendingHashtags;
+        this.likedBlogSets = likedBlogSets;
+        this.taskExecutor = taskExecutor;
+        if (enabled) {
+            writeAheadLog.recovered().forEach(entry ->
+                    pending.put(new Key(entry.userId(), entry.blogId()), new Op(entry.liked(), entry.at())));
+            if (!pending.isEmpty()) log.info("[LIKES] replaying {} buffered likes from the write-ahead log", pending.size());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void like(long userId, long blogId) {
+        record(userId, blogId, true);
+    }
+
+    public void unlike(long userId, long blogId) {
+        record(userId, blogId, false);
+    }
+
+    /** The buffered state for this pair, or null when nothing is waiting to be written. */
+    public Boolean pendingState(long userId, long blogId) {
+        Key key = new Key(userId, blogId);
+        Op op = pending.get(key);
+        if (op == null) op = flushing.get(key);
+        return op == null ? null : op.liked();
+    }
+
+    @Scheduled(fixedDelayString = "${application.likes.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        if (!enabled) return;
+        flushLock.lock();
+        try {
+            Map<Key, Op> batch;
+            long sealedSegment;
+            swapLock.writeLock().lock();
+            try {
+                if (pending.isEmpty()) return;
+                batch = pending;
+                flushing = batch;
+                pending = new ConcurrentHashMap<>();
+                sealedSegment = writeAheadLog.rotate();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(batch));
+            } catch (RuntimeException e) {
+                // Newer operations on the same pair win over the ones being put back
+                batch.forEach(pending::putIfAbsent);
+                log.warn("[LIKES] flush of {} buffered likes failed, retrying on the next flush", batch.size(), e);
+                return;
+            }
+            writeAheadLog.deleteThrough(sealedSegment);
+        } finally {
+            flushing = Map.of();
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!enabled) return;
+        flush();
+        writeAheadLog.close();
+    }
+
+    private void record(long userId, long blogId, boolean liked) {
+        long now = System.currentTimeMillis();
+        swapLock.readLock().lock();
+        try {
+            writeAheadLog.append(new LikeWriteAheadLog.Entry(userId, blogId, liked, now));
+            pending.put(new Key(userId, blogId), new Op(liked, now));
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        if (pending.size() >= maxPending && earlyFlushQueued.compareAndSet(false, true)) {
+            taskExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    earlyFlushQueued.set(false);
+                }
+            });
+        }
+    }
+
+    private void write(Map<Key, Op> batch) {
+        List<Object[]> likes = new ArrayList<>();
+        List<Long> likedBlogs = new ArrayList<>();
+        List<Object[]> unlikes = new ArrayList<>();
+        List<Long> unlikedBlogs = new ArrayList<>();
+        // Once this commits, the table holds exactly the buffered state for every pair
+        batch.forEach((key, op) -> {
+            if (op.liked()) {
+                likes.add(new Object[]{key.userId(), new Timestamp(op.at()), key.blogId()});
+                likedBlogs.add(key.blogId());
+                likedBlogSets.add(key.userId(), key.blogId());
+            } else {
+                unlikes.add(new Object[]{key.userId(), key.blogId()});
+                unlikedBlogs.add(key.blogId());
+                likedBlogSets.remove(key.userId(), key.blogId());
+            }
+        });
+
+        Map<Long, Integer> deltas = new HashMap<>();
+        Set<Long> recount = new HashSet<>();
+        Map<Long, Integer> added = new HashMap<>();
+        int[] inserted = likes.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(INSERT_LIKE, likes);
+        for (int i = 0; i < inserted.length; i++) {
+            long blogId = likedBlogs.get(i);
+            // Drivers may report SUCCESS_NO_INFO for batched statements; those blogs are recounted
+            if (inserted[i] < 0) recount.add(blogId);
+            else if (inserted[i] > 0) {
+                deltas.merge(blogId, inserted[i], Integer::sum);
+                added.merge(blogId, inserted[i], Integer::sum);
+            }
+        }
+        int[] deleted = unlikes.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(DELETE_LIKE, unlikes);
+        for (int i = 0; i < deleted.length; i++) {
+            long blogId = unlikedBlogs.get(i);
+            if (deleted[i] < 0) recount.add(blogId);
+            else if (deleted[i] > 0) deltas.merge(blogId, -deleted[i], Integer::sum);
+        }
+        deltas.keySet().removeAll(recount);
+        deltas.values().removeIf(delta -> delta == 0);
+
+        if (!deltas.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADJUST_LIKE_COUNT, deltas.entrySet().stream()
+                    .map(delta -> new Object[]{delta.getValue(), delta.getKey(), delta.getValue()})
+                    .toList());
+        }
+        if (!recount.isEmpty()) {
+            jdbcTemplate.batchUpdate(RECOUNT_LIKES, recount.stream().map(blogId -> new Object[]{blogId}).toList());
+        }
+        deltas.keySet().forEach(blogResponseCache::evict);
+        recount.forEach(blogResponseCache::evict);
+        recordTrending(added);
+    }
+
+    private void recordTrending(Map<Long, Integer> added) {
+        if (added.isEmpty()) return;
+        Map<Long, List<String>> hashtags = new HashMap<>();
+        namedJdbcTemplate.query("SELECT blog_id, hashtag FROM blog_hashtags WHERE blog_id IN (:ids)",
+                Map.of("ids", added.keySet()),
+                row -> {
+                    hashtags.computeIfAbsent(row.getLong("blog_id"), id -> new ArrayList<>()).add(row.getString("hashtag"));
+                });
+        hashtags.forEach((blogId, tags) -> {
+            for (int i = 0; i < added.get(blogId); i++) trendingHashtags.recordLike(tags);
+        });
+    }
+}
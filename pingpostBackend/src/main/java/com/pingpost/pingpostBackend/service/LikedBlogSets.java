@@ -0,0 +1,93 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.LikeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Each user's liked blog ids as a compressed bitmap, so is-liked and duplicate-like checks are
+ * answered from memory. A user's set is loaded in full on first use and evicted by size and
+ * idle time. Likes and unlikes update a cached set right away, so the writing transaction
+ * reads its own change, and again after commit; a rollback drops the user's set instead.
+ */
+@Component
+public class LikedBlogSets {
+    private final LikeRepository likeRepository;
+    private final Cache<Long, Roaring64Bitmap> sets;
+
+    public LikedBlogSets(
+            LikeRepository likeRepository,
+            MeterRegistry meterRegistry,
+            @Value("${application.likes.liked-sets.max-users:100000}") long maxUsers,
+            @Value("${application.likes.liked-sets.ttl:30m}") Duration ttl
+    ) {
+        this.likeRepository = likeRepository;
+        this.sets = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sets, "likedBlogSets");
+    }
+
+    public boolean contains(User user, Long blogId) {
+        Roaring64Bitmap set = sets.get(user.getId(), userId -> load(user));
+        synchronized (set) {
+            return set.contains(blogId);
+        }
+    }
+
+    public void add(Long userId, Long blogId) {
+        apply(userId, set -> set.addLong(blogId));
+    }
+
+    public void remove(Long userId, Long blogId) {
+        apply(userId, set -> set.removeLong(blogId));
+    }
+
+    private void apply(Long userId, Consumer<Roaring64Bitmap> change) {
+        update(userId, change);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // A load that read the table before the commit did not see the change
+                @Override
+                public void afterCommit() {
+                    update(userId, change);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) sets.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    // computeIfPresent waits for an in-flight load of the same user rather than missing it
+    private void update(Long userId, Consumer<Roaring64Bitmap> change) {
+        sets.asMap().computeIfPresent(userId, (id, set) -> {
+            synchronized (set) {
+                change.accept(set);
+            }
+            return set;
+        });
+    }
+
+    private Roaring64Bitmap load(User user) {
+        Roaring64Bitmap set = new Roaring64Bitmap();
+        for (Long blogId : likeRepository.findBlogIdsByUser(user)) set.addLong(blogId);
+        set.runOptimize();
+        return set;
+    }
+}
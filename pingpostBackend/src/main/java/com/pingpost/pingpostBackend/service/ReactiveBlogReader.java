@@ -0,0 +1,142 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.dto.AuthorDTO;
+import com.pingpost.pingpostBackend.dto.BlogResponse;
+import com.pingpost.pingpostBackend.dto.CommentResponse;
+import com.pingpost.pingpostBackend.dto.CursorPaginatedResponse;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking read path over R2DBC for the reactive API. It serves the same shapes as the MVC
+ * reads, straight from SQL; writes stay on JPA, and the R2DBC pool is sized separately from
+ * HikariCP.
+ */
+@Service
+public class ReactiveBlogReader {
+    private static final String BLOG_COLUMNS =
+            "SELECT b.id, b.title, b.content, b.image_url, b.created_at, b.updated_at, b.like_count, b.comment_count, " +
+            "u.username, u.full_name, u.profile_picture " +
+            "FROM blogs b JOIN users u ON u.id = b.author_id ";
+
+    private final DatabaseClient databaseClient;
+    private final int commentPrefetch;
+
+    public ReactiveBlogReader(
+            DatabaseClient databaseClient,
+            @Value("${application.reactive.comment-prefetch:64}") int commentPrefetch) {
+        this.databaseClient = databaseClient;
+        this.commentPrefetch = commentPrefetch;
+    }
+
+    public Mono<CursorPaginatedResponse<BlogResponse>> getFeedPage(BlogCursor cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, BlogService.MAX_PAGE_SIZE));
+        // One extra row tells whether another page exists
+        DatabaseClient.GenericExecuteSpec query = cursor == null
+                ? databaseClient.sql(BLOG_COLUMNS + "ORDER BY b.created_at DESC, b.id DESC LIMIT :limit")
+                : databaseClient.sql(BLOG_COLUMNS +
+                        "WHERE b.created_at < :createdAt OR (b.created_at = :createdAt AND b.id < :id) " +
+                        "ORDER BY b.created_at DESC, b.id DESC LIMIT :limit")
+                        .bind("createdAt", cursor.createdAt())
+                        .bind("id", cursor.id());
+        return query.bind("limit", pageSize + 1)
+                .map(ReactiveBlogReader::toBlogResponse)
+                .all()
+                .collectList()
+                .flatMap(this::withHashtags)
+                .map(blogs -> toCursorPage(blogs, pageSize));
+    }
+
+    public Mono<BlogResponse> getBlog(Long id) {
+        return databaseClient.sql(BLOG_COLUMNS + "WHERE b.id = :id")
+                .bind("id", id)
+                .map(ReactiveBlogReader::toBlogResponse)
+                .one()
+                .flatMap(blog -> withHashtags(List.of(blog)).map(blogs -> blogs.get(0)));
+    }
+
+    /** Comments oldest first, fetched from the database only as fast as the client reads them. */
+    public Flux<CommentResponse> streamComments(Long blogId) {
+        return databaseClient.sql("SELECT c.id, c.content, c.created_at, c.blog_id, u.username " +
+                        "FROM comments c JOIN users u ON u.id = c.author_id " +
+                        "WHERE c.blog_id = :blogId ORDER BY c.created_at, c.id")
+                .bind("blogId", blogId)
+                .map(ReactiveBlogReader::toCommentResponse)
+                .all()
+                .limitRate(commentPrefetch);
+    }
+
+    public Mono<Long> getLikeCount(Long blogId) {
+        return databaseClient.sql("SELECT like_count FROM blogs WHERE id = :id")
+                .bind("id", blogId)
+                .map(row -> row.get("like_count", Integer.class).longValue())
+                .one();
+    }
+
+    private Mono<List<BlogResponse>> withHashtags(List<BlogResponse> blogs) {
+        if (blogs.isEmpty()) return Mono.just(blogs);
+        List<Long> ids = blogs.stream().map(BlogResponse::getId).toList();
+        return databaseClient.sql("SELECT blog_id, hashtag FROM blog_hashtags WHERE blog_id IN (:ids)")
+                .bind("ids", ids)
+                .map(row -> Map.entry(row.get("blog_id", Long.class), row.get("hashtag", String.class)))
+                .all()
+                .collect(Collectors.groupingBy(Map.Entry::getKey, Collectors.mapping(Map.Entry::getValue, Collectors.toSet())))
+                .map(hashtags -> {
+                    blogs.forEach(blog -> blog.setHashtags(new HashSet<>(hashtags.getOrDefault(blog.getId(), Set.of()))));
+                    return blogs;
+                });
+    }
+
+    private static CursorPaginatedResponse<BlogResponse> toCursorPage(List<BlogResponse> blogs, int pageSize) {
+        boolean hasNext = blogs.size() > pageSize;
+        List<BlogResponse> content = hasNext ? blogs.subList(0, pageSize) : blogs;
+        CursorPaginatedResponse<BlogResponse> response = new CursorPaginatedResponse<>();
+        response.setContent(content);
+        response.setSize(pageSize);
+        response.setHasNext(hasNext);
+        if (hasNext) {
+            BlogResponse last = content.get(content.size() - 1);
+            response.setNextCursor(new BlogCursor(last.getCreatedAt(), last.getId()).encode());
+        }
+        return response;
+    }
+
+    private static BlogResponse toBlogResponse(Readable row) {
+        BlogResponse resp = new BlogResponse();
+        resp.setId(row.get("id", Long.class));
+        resp.setTitle(row.get("title", String.class));
+        resp.setContent(row.get("content", String.class));
+        resp.setImageUrl(row.get("image_url", String.class));
+        resp.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        resp.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        resp.setLikeCount(row.get("like_count", Integer.class));
+        resp.setCommentCount(row.get("comment_count", Integer.class));
+        AuthorDTO author = new AuthorDTO();
+        author.setUsername(row.get("username", String.class));
+        author.setFullName(row.get("full_name", String.class));
+        author.setProfilePicture(row.get("profile_picture", String.class));
+        resp.setAuthor(author);
+        return resp;
+    }
+
+    private static CommentResponse toCommentResponse(Readable row) {
+        CommentResponse resp = new CommentResponse();
+        resp.setId(row.get("id", Long.class));
+        resp.setContent(row.get("content", String.class));
+        resp.setAuthorUsername(row.get("username", String.class));
+        resp.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        resp.setBlogId(row.get("blog_id", Long.class));
+        return resp;
+    }
+}
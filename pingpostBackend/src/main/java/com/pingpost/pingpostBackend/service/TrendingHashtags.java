@@ -0,0 +1,232 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.dto.TrendingHashtag;
+import com.pingpost.pingpostBackend.entity.TrendingHashtagBucket;
+import com.pingpost.pingpostBackend.repository.TrendingHashtagBucketRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trending hashtags over a sliding window. Every hashtag owns a ring of time buckets; uses are
+ * added to the current bucket and a hashtag's score is the sum of its live buckets, each halved
+ * every {@code half-life-minutes} of age. The ranked list is recomputed on a fixed delay, so
+ * reads copy at most k precomputed entries. Live buckets are upserted into
+ * trending_hashtag_buckets as one JDBC batch, periodically and on shutdown, and reloaded on
+ * startup.
+ */
+@Component
+public class TrendingHashtags {
+    static final int MAX_TRENDING = 50;
+    private static final Logger log = LoggerFactory.getLogger(TrendingHashtags.class);
+    private static final String UPSERT_BUCKET = "INSERT INTO trending_hashtag_buckets (hashtag, bucket, weight) " +
+            "VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE weight = VALUES(weight)";
+    private static final String DELETE_EXPIRED = "DELETE FROM trending_hashtag_buckets WHERE bucket <= ?";
+
+    private final TrendingHashtagBucketRepository bucketRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final double likeWeight;
+    // decay[age] = weight of a bucket that is age buckets old
+    private final double[] decay;
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private volatile List<TrendingHashtag> ranked = List.of();
+
+    @Autowired
+    public TrendingHashtags(
+            TrendingHashtagBucketRepository bucketRepository,
+            DataSource dataSource,
+            TransactionTemplate transactionTemplate,
+            @Value("${application.hashtags.trending.bucket-minutes:60}") int bucketMinutes,
+            @Value("${application.hashtags.trending.buckets:24}") int bucketCount,
+            @Value("${application.hashtags.trending.half-life-minutes:360}") double halfLifeMinutes,
+            @Value("${application.hashtags.trending.like-weight:0.25}") double likeWeight
+    ) {
+        this(bucketRepository, new JdbcTemplate(dataSource), transactionTemplate, Clock.systemUTC(),
+                bucketMinutes, bucketCount, halfLifeMinutes, likeWeight);
+    }
+
+    TrendingHashtags(
+            TrendingHashtagBucketRepository bucketRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            Clock clock,
+            int bucketMinutes,
+            int bucketCount,
+            double halfLifeMinutes,
+            double likeWeight
+    ) {
+        this.bucketRepository = bucketRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.bucketMillis = bucketMinutes * 60_000L;
+        this.bucketCount = bucketCount;
+        this.likeWeight = likeWeight;
+        this.decay = new double[bucketCount];
+        for (int age = 0; age < bucketCount; age++) {
+            decay[age] = Math.pow(0.5, age * bucketMinutes / halfLifeMinutes);
+        }
+    }
+
+    public void recordUse(Collection<String> hashtags) {
+        record(hashtags, 1.0);
+    }
+
+    public void recordLike(Collection<String> hashtags) {
+        if (likeWeight > 0) record(hashtags, likeWeight);
+    }
+
+    /** The current top hashtags, highest score first. */
+    public List<TrendingHashtag> top(int limit) {
+        List<TrendingHashtag> current = ranked;
+        return current.subList(0, Math.min(Math.max(limit, 1), current.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${application.hashtags.trending.recompute-interval-ms:15000}")
+    public void recompute() {
+        long now = currentBucket();
+        PriorityQueue<TrendingHashtag> best = new PriorityQueue<>(MAX_TRENDING + 1, Comparator.comparingDouble(TrendingHashtag::getScore));
+        for (String hashtag : counters.keySet()) {
+            // Atomic with record() on the same key, so a concurrent use is never dropped
+            Counter counter = counters.computeIfPresent(hashtag, (key, c) -> c.expired(now) ? null : c);
+            if (counter == null) continue;
+            double score = counter.score(now);
+            if (score <= 0) continue;
+            best.offer(new TrendingHashtag(hashtag, score));
+            if (best.size() > MAX_TRENDING) best.poll();
+        }
+        List<TrendingHashtag> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(TrendingHashtag::getScore).reversed().thenComparing(TrendingHashtag::getHashtag));
+        ranked = List.copyOf(result);
+    }
+
+    @Scheduled(fixedDelayString = "${application.hashtags.trending.snapshot-interval-ms:300000}",
+            initialDelayString = "${application.hashtags.trending.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        long now = currentBucket();
+        List<Object[]> rows = new ArrayList<>();
+        counters.forEach((hashtag, counter) -> counter.collect(hashtag, now, rows));
+        // Rows are keyed by (hashtag, bucket), so live buckets are overwritten in place and only expired ones deleted
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!rows.isEmpty()) jdbcTemplate.batchUpdate(UPSERT_BUCKET, rows);
+            jdbcTemplate.update(DELETE_EXPIRED, now - bucketCount);
+        });
+        log.debug("[TRENDING] snapshotted {} buckets", rows.size());
+    }
+
+    @PreDestroy
+    public void close() {
+        snapshot();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        long now = currentBucket();
+        List<TrendingHashtagBucket> rows = bucketRepository.findByBucketGreaterThan(now - bucketCount);
+        for (TrendingHashtagBucket row : rows) {
+            if (row.getBucket() <= now) add(row.getHashtag(), row.getBucket(), row.getWeight());
+        }
+        recompute();
+        log.info("[TRENDING] restored {} buckets for {} hashtags", rows.size(), counters.size());
+    }
+
+    private void record(Collection<String> hashtags, double weight) {
+        if (hashtags == null || hashtags.isEmpty()) return;
+        List<String> tags = List.copyOf(hashtags);
+        Runnable apply = () -> {
+            long bucket = currentBucket();
+            for (String tag : tags) add(tag, bucket, weight);
+        };
+        // Only count writes that actually commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private void add(String hashtag, long bucket, double weight) {
+        counters.compute(hashtag, (key, counter) -> {
+            Counter target = counter == null ? new Counter(bucketCount) : counter;
+            target.add(bucket, weight);
+            return target;
+        });
+    }
+
+    private long currentBucket() {
+        return clock.millis() / bucketMillis;
+    }
+
+    private final class Counter {
+        private final long[] buckets;
+        private final double[] weights;
+
+        Counter(int size) {
+            buckets = new long[size];
+            Arrays.fill(buckets, Long.MIN_VALUE);
+            weights = new double[size];
+        }
+
+        synchronized void add(long bucket, double weight) {
+            int slot = (int) Math.floorMod(bucket, (long) buckets.length);
+            if (buckets[slot] > bucket) return;
+            if (buckets[slot] != bucket) {
+                buckets[slot] = bucket;
+                weights[slot] = 0;
+            }
+            weights[slot] += weight;
+        }
+
+        synchronized double score(long now) {
+            double score = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                long age = now - buckets[i];
+                if (age >= 0 && age < bucketCount) score += weights[i] * decay[(int) age];
+            }
+            return score;
+        }
+
+        synchronized boolean expired(long now) {
+            for (long bucket : buckets) {
+                if (now - bucket < bucketCount) return false;
+            }
+            return true;
+        }
+
+        synchronized void collect(String hashtag, long now, List<Object[]> out) {
+            for (int i = 0; i < buckets.length; i++) {
+                long age = now - buckets[i];
+                if (age >= 0 && age < bucketCount) out.add(new Object[]{hashtag, buckets[i], weights[i]});
+            }
+        }
+    }
+}
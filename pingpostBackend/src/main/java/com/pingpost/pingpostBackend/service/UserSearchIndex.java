@@ -0,0 +1,312 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.repository.UserRepository;
+import com.pingpost.pingpostBackend.repository.projection.UserSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory trigram index over usernames and full names for user search. A query matches users
+ * sharing at least half of its trigrams, which tolerates a typo in longer queries, and is ranked
+ * by trigram overlap with a bonus for substring and prefix matches. Queries shorter than a
+ * trigram fall back to a username prefix range. The index is rebuilt on a fixed delay; users
+ * registered or edited since the last rebuild are kept in a small overlay that is searched
+ * alongside it.
+ */
+@Component
+public class UserSearchIndex {
+    static final int MAX_RESULTS = 50;
+    private static final Logger log = LoggerFactory.getLogger(UserSearchIndex.class);
+    private static final int GRAM = 3;
+    // Per-query work bounds: username prefix range and posting entries visited. Past these, the
+    // tail of very common names and trigrams is skipped to keep latency flat as users grow
+    private static final int PREFIX_SCAN = 1000;
+    private static final int MAX_CANDIDATES = 10_000;
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final UserRepository userRepository;
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentHashMap<Long, Pending> pending = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public UserSearchIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    private record Pending(UserSummary user, long sequence) {
+    }
+
+    private record Candidate(UserSummary user, double score) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${application.users.search.refresh-interval-ms:300000}",
+            initialDelayString = "${application.users.search.refresh-interval-ms:300000}")
+    public void refresh() {
+        // Taken before the read: an upsert committing while the query runs may be missing from it
+        long loadedUpTo = sequence.get();
+        load(userRepository.findAllSummaries(), loadedUpTo);
+    }
+
+    /** Replaces the index with {@code users}; overlay entries recorded before the call are dropped. */
+    public void load(List<UserSummary> users) {
+        load(users, sequence.get());
+    }
+
+    // Overlay entries up to loadedUpTo were committed before users was read, so the snapshot has them
+    private void load(List<UserSummary> users, long loadedUpTo) {
+        snapshot = Snapshot.of(users);
+        pending.values().removeIf(entry -> entry.sequence() <= loadedUpTo);
+        log.debug("[USER-SEARCH] indexed {} users", users.size());
+    }
+
+    /** Makes a new or edited user searchable once the surrounding transaction commits. */
+    public void upsert(UserSummary user) {
+        Runnable apply = () -> pending.put(user.id(), new Pending(user, sequence.incrementAndGet()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    public List<UserSummary> search(String query, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty()) return List.of();
+        int k = Math.max(1, Math.min(limit, MAX_RESULTS));
+        Snapshot current = snapshot;
+        PriorityQueue<Candidate> best = new PriorityQueue<>(k + 1, Comparator.comparingDouble(Candidate::score));
+
+        if (q.length() < GRAM) {
+            current.scanPrefix(q, pending, best, k);
+        } else {
+            current.scanTrigrams(q, pending, best, k);
+        }
+        long[] queryGrams = grams(q, "");
+        for (Pending entry : pending.values()) {
+            String username = normalize(entry.user().username());
+            String fullName = normalize(entry.user().fullName());
+            double score;
+            if (q.length() < GRAM) {
+                score = username.startsWith(q) ? prefixScore(q, username) : 0;
+            } else {
+                long[] docGrams = grams(username, fullName);
+                int shared = countShared(queryGrams, docGrams);
+                score = shared >= minShared(queryGrams.length) ? score(q, shared, queryGrams.length, docGrams.length, username, fullName) : 0;
+            }
+            if (score > 0) offer(best, new Candidate(entry.user(), score), k);
+        }
+
+        List<Candidate> ranked = new ArrayList<>(best);
+        ranked.sort(Comparator.comparingDouble(Candidate::score).reversed()
+                .thenComparing(candidate -> candidate.user().username()));
+        return ranked.stream().map(Candidate::user).toList();
+    }
+
+    static String normalize(String text) {
+        if (text == null) return "";
+        String trimmed = text.strip().toLowerCase(Locale.ROOT);
+        return trimmed.startsWith("@") ? trimmed.substring(1) : trimmed;
+    }
+
+    // Sorted, distinct trigrams of both texts, three 16-bit chars packed per long
+    static long[] grams(String first, String second) {
+        long[] grams = new long[Math.max(0, first.length() - GRAM + 1) + Math.max(0, second.length() - GRAM + 1)];
+        int n = 0;
+        for (String text : new String[]{first, second}) {
+            for (int i = 0; i + GRAM <= text.length(); i++) {
+                grams[n++] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+            }
+        }
+        Arrays.sort(grams, 0, n);
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            if (distinct == 0 || grams[i] != grams[distinct - 1]) grams[distinct++] = grams[i];
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    private static int minShared(int queryGrams) {
+        return Math.max(1, (queryGrams + 1) / 2);
+    }
+
+    // Trigram Jaccard similarity plus bonuses for literal matches
+    private static double score(String q, int shared, int queryGrams, int docGrams, String username, String fullName) {
+        double score = (double) shared / (queryGrams + docGrams - shared);
+        if (username.equals(q)) score += 3;
+        else if (username.startsWith(q)) score += 2;
+        else if (username.contains(q)) score += 1;
+        if (fullName.contains(q)) score += 0.5;
+        return score;
+    }
+
+    private static double prefixScore(String q, String username) {
+        return 1 + (double) q.length() / username.length();
+    }
+
+    private static int countShared(long[] a, long[] b) {
+        int shared = 0;
+        for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    private static void offer(PriorityQueue<Candidate> best, Candidate candidate, int k) {
+        best.offer(candidate);
+        if (best.size() > k) best.poll();
+    }
+
+    private record Snapshot(UserSummary[] users, String[] usernames, String[] fullNames, int[] gramCounts,
+                            Map<Long, int[]> postings, int[] byUsername) {
+        static final Snapshot EMPTY = new Snapshot(new UserSummary[0], new String[0], new String[0], new int[0], Map.of(), new int[0]);
+
+        static Snapshot of(List<UserSummary> list) {
+            int n = list.size();
+            UserSummary[] users = list.toArray(UserSummary[]::new);
+            String[] usernames = new String[n];
+            String[] fullNames = new String[n];
+            int[] gramCounts = new int[n];
+            Map<Long, IntList> lists = new HashMap<>();
+            for (int doc = 0; doc < n; doc++) {
+                usernames[doc] = normalize(users[doc].username());
+                fullNames[doc] = normalize(users[doc].fullName());
+                long[] grams = grams(usernames[doc], fullNames[doc]);
+                gramCounts[doc] = grams.length;
+                for (long gram : grams) lists.computeIfAbsent(gram, g -> new IntList()).add(doc);
+            }
+            Map<Long, int[]> postings = new HashMap<>(lists.size() * 2);
+            lists.forEach((gram, docs) -> postings.put(gram, docs.toArray()));
+
+            int[] byUsername = IntStream.range(0, n).boxed()
+                    .sorted(Comparator.comparing(doc -> usernames[doc]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            return new Snapshot(users, usernames, fullNames, gramCounts, postings, byUsername);
+        }
+
+        void scanPrefix(String q, Map<Long, Pending> pending, PriorityQueue<Candidate> best, int k) {
+            for (int doc : prefixRange(q)) {
+                if (pending.containsKey(users[doc].id())) continue;
+                offer(best, new Candidate(users[doc], prefixScore(q, usernames[doc])), k);
+            }
+        }
+
+        void scanTrigrams(String q, Map<Long, Pending> pending, PriorityQueue<Candidate> best, int k) {
+            long[] grams = grams(q, "");
+            int minShared = minShared(grams.length);
+            // Usernames starting with the query score highest but may sit far down long
+            // posting lists, so they are taken from the sorted usernames first
+            Set<Integer> seen = new HashSet<>();
+            for (int doc : prefixRange(q)) {
+                seen.add(doc);
+                if (pending.containsKey(users[doc].id())) continue;
+                int shared = countShared(grams, grams(usernames[doc], fullNames[doc]));
+                if (shared >= minShared) offer(best, new Candidate(users[doc], score(q, shared, grams.length, gramCounts[doc], usernames[doc], fullNames[doc])), k);
+            }
+
+            int[][] lists = new int[grams.length][];
+            for (int i = 0; i < grams.length; i++) lists[i] = postings.getOrDefault(grams[i], NO_POSTINGS);
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+            // A user sharing minShared trigrams must appear in one of the shortest
+            // (grams - minShared + 1) lists, so only those are walked
+            int candidateLists = grams.length - minShared + 1;
+            int budget = MAX_CANDIDATES;
+            int[] cursors = new int[lists.length];
+            for (int j = 0; j < candidateLists && budget > 0; j++) {
+                Arrays.fill(cursors, 0);
+                for (int p = 0; p < lists[j].length && budget > 0; p++, budget--) {
+                    int doc = lists[j][p];
+                    // Docs are ascending in every list, so membership is a forward seek
+                    boolean seenEarlier = false;
+                    for (int i = 0; i < j && !seenEarlier; i++) seenEarlier = seek(lists[i], cursors, i, doc);
+                    if (seenEarlier || seen.contains(doc)) continue;
+                    int shared = 1;
+                    for (int i = j + 1; i < lists.length; i++) {
+                        if (seek(lists[i], cursors, i, doc)) shared++;
+                    }
+                    if (shared < minShared || pending.containsKey(users[doc].id())) continue;
+                    double score = score(q, shared, grams.length, gramCounts[doc], usernames[doc], fullNames[doc]);
+                    offer(best, new Candidate(users[doc], score), k);
+                }
+            }
+        }
+
+        private List<Integer> prefixRange(String q) {
+            int lo = 0, hi = byUsername.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (usernames[byUsername[mid]].compareTo(q) < 0) lo = mid + 1;
+                else hi = mid;
+            }
+            List<Integer> docs = new ArrayList<>();
+            for (int i = lo; i < byUsername.length && docs.size() < PREFIX_SCAN; i++) {
+                if (!usernames[byUsername[i]].startsWith(q)) break;
+                docs.add(byUsername[i]);
+            }
+            return docs;
+        }
+
+        // Galloping search from the list's cursor; leaves the cursor at the first entry >= doc
+        private static boolean seek(int[] list, int[] cursors, int i, int doc) {
+            int lo = cursors[i];
+            int step = 1;
+            int hi = lo;
+            while (hi < list.length && list[hi] < doc) {
+                lo = hi + 1;
+                hi += step;
+                step <<= 1;
+            }
+            int pos = Arrays.binarySearch(list, lo, Math.min(hi + 1, list.length), doc);
+            cursors[i] = pos >= 0 ? pos : -pos - 1;
+            return pos >= 0;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
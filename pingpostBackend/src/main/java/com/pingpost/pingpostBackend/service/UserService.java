@@ -3,18 +3,26 @@ package com.pingpost.pingpostBackend.service;
 import com.pingpost.pingpostBackend.dto.BlogResponse;
 import com.pingpost.pingpostBackend.dto.CommentResponse;
 import com.pingpost.pingpostBackend.dto.UserProfileRequest;
-import com.pingpost.pingpostBackend.dto.AuthorDTO;
+import com.pingpost.pingpostBackend.dto.PaginatedResponse;
 import com.pingpost.pingpostBackend.dto.PublicUserProfileDTO;
-import com.pingpost.pingpostBackend.entity.Blog;
-import com.pingpost.pingpostBackend.entity.Like;
+import com.pingpost.pingpostBackend.entity.Follow;
+import com.pingpost.pingpostBackend.entity.FollowId;
 import com.pingpost.pingpostBackend.entity.User;
 import com.pingpost.pingpostBackend.repository.BlogRepository;
 import com.pingpost.pingpostBackend.repository.CommentRepository;
+import com.pingpost.pingpostBackend.repository.FollowRepository;
 import com.pingpost.pingpostBackend.repository.LikeRepository;
 import com.pingpost.pingpostBackend.repository.UserRepository;
+import com.pingpost.pingpostBackend.repository.projection.UserSummary;
+import com.pingpost.pingpostBackend.security.PrincipalResolver;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,26 +31,43 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Observed(name = "pingpost.service")
 public class UserService {
     private static final Logger log = LoggerFactory.getLogger(UserService.class);
+    // Newest edges first; the id pair breaks ties so pages never overlap
+    private static final Sort FOLLOW_ORDER = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id.userId"), Sort.Order.desc("id.followerId"));
     private final UserRepository userRepository;
     private final BlogRepository blogRepository;
     private final LikeRepository likeRepository;
     private final CommentRepository commentRepository;
+    private final FollowRepository followRepository;
+    private final BlogResponseAssembler blogResponseAssembler;
+    private final BlogResponseCache blogResponseCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PrincipalResolver principalResolver;
+    private final UserSearchIndex userSearchIndex;
 
     @Transactional
-    public User updateProfile(User user, UserProfileRequest request) {
+    public User updateProfile(User principal, UserProfileRequest request) {
+        // The principal may be rebuilt from token claims or shared through the user cache, so
+        // update a managed copy instead of saving it
+        User user = userRepository.findById(principal.getId())
+                .orElseThrow(() -> new RuntimeException("User not found"));
         user.setFullName(request.getFullName());
         user.setBio(request.getBio());
         user.setProfilePicture(request.getProfilePicture());
-        return userRepository.save(user);
+        principalResolver.evict(user.getUsername());
+        userSearchIndex.upsert(new UserSummary(user.getId(), user.getUsername(), user.getFullName(), user.getProfilePicture()));
+        return user;
+    }
+
+    public List<UserSummary> searchUsers(String query, int limit) {
+        return userSearchIndex.search(query, limit);
     }
 
+    // No likedByMe is set on this list, so the shared cached responses can be returned as they are
     public List<BlogResponse> getLikedBlogs(User user) {
-        List<Like> likes = likeRepository.findByUser(user);
-        return likes.stream()
-                .map(like -> toBlogResponse(like.getBlog()))
-                .collect(Collectors.toList());
+        return blogResponseCache.getAll(likeRepository.findBlogIdsByUser(user), blogResponseAssembler::toResponsesByIds);
     }
 
     public List<CommentResponse> getUserComments(User user) {
@@ -59,83 +84,70 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
-    private BlogResponse toBlogResponse(Blog blog) {
-        BlogResponse resp = new BlogResponse();
-        resp.setId(blog.getId());
-        resp.setTitle(blog.getTitle());
-        resp.setContent(blog.getContent());
-        resp.setImageUrl(blog.getImageUrl());
-        resp.setAuthor(toAuthorDTO(blog.getAuthor()));
-        resp.setCreatedAt(blog.getCreatedAt());
-        resp.setUpdatedAt(blog.getUpdatedAt());
-        resp.setLikeCount((int) likeRepository.countByBlog(blog));
-        resp.setCommentCount((int) commentRepository.countByBlog(blog));
-        return resp;
-    }
-
-    private AuthorDTO toAuthorDTO(User user) {
-        AuthorDTO dto = new AuthorDTO();
-        dto.setUsername(user.getUsername());
-        dto.setFullName(user.getFullName());
-        dto.setProfilePicture(user.getProfilePicture());
-        return dto;
-    }
-
     @Transactional
     public void followUser(User currentUser, String usernameToFollow) {
         log.info("[FOLLOW] {} -> {} (before)", currentUser.getUsername(), usernameToFollow);
         if (currentUser.getUsername().equals(usernameToFollow)) return;
-        User userToFollow = userRepository.findByUsername(usernameToFollow)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        userToFollow.getFollowers().add(currentUser);
-        userRepository.save(userToFollow);
+        Long userId = findUserId(usernameToFollow);
+        FollowId id = new FollowId(userId, currentUser.getId());
+        if (followRepository.existsById(id)) return;
+        followRepository.save(new Follow(userId, currentUser.getId()));
+        eventPublisher.publishEvent(new FollowChangedEvent(currentUser.getId(), userId, true));
         log.info("[FOLLOW] {} -> {} (after)", currentUser.getUsername(), usernameToFollow);
     }
 
     @Transactional
     public void unfollowUser(User currentUser, String usernameToUnfollow) {
         if (currentUser.getUsername().equals(usernameToUnfollow)) return;
-        User userToUnfollow = userRepository.findByUsername(usernameToUnfollow)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        userToUnfollow.getFollowers().removeIf(follower -> follower.getUsername().equals(currentUser.getUsername()));
-        userRepository.save(userToUnfollow);
+        Long userId = findUserId(usernameToUnfollow);
+        if (followRepository.deleteByPair(userId, currentUser.getId()) > 0) {
+            eventPublisher.publishEvent(new FollowChangedEvent(currentUser.getId(), userId, false));
+        }
     }
 
     @Transactional(readOnly = true)
     public long getFollowersCount(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getFollowers().size();
+        return followRepository.countByIdUserId(findUserId(username));
     }
 
     @Transactional(readOnly = true)
     public long getFollowingCount(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getFollowing().size();
+        return followRepository.countByIdFollowerId(findUserId(username));
     }
 
     @Transactional(readOnly = true)
     public boolean isFollowing(User currentUser, String username) {
         if (currentUser == null || currentUser.getUsername().equals(username)) return false;
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getFollowers().stream()
-            .anyMatch(follower -> follower.getUsername().equals(currentUser.getUsername()));
+        return followRepository.existsById(new FollowId(findUserId(username), currentUser.getId()));
     }
 
     @Transactional(readOnly = true)
-    public List<PublicUserProfileDTO> getFollowers(String username) {
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getFollowers().stream().map(this::toPublicUserProfileDTO).toList();
+    public PaginatedResponse<PublicUserProfileDTO> getFollowers(String username, int page, int size) {
+        return toPaginatedResponse(followRepository.findFollowersOf(findUserId(username), followPage(page, size)));
     }
 
     @Transactional(readOnly = true)
-    public List<PublicUserProfileDTO> getFollowing(String username) {
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getFollowing().stream().map(this::toPublicUserProfileDTO).toList();
+    public PaginatedResponse<PublicUserProfileDTO> getFollowing(String username, int page, int size) {
+        return toPaginatedResponse(followRepository.findFollowedBy(findUserId(username), followPage(page, size)));
+    }
+
+    private Long findUserId(String username) {
+        return userRepository.findIdByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    private PageRequest followPage(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, BlogService.MAX_PAGE_SIZE)), FOLLOW_ORDER);
+    }
+
+    private PaginatedResponse<PublicUserProfileDTO> toPaginatedResponse(Page<User> users) {
+        PaginatedResponse<PublicUserProfileDTO> response = new PaginatedResponse<>();
+        response.setContent(users.getContent().stream().map(this::toPublicUserProfileDTO).toList());
+        response.setTotalPages(users.getTotalPages());
+        response.setTotalElements(users.getTotalElements());
+        response.setSize(users.getSize());
+        response.setNumber(users.getNumber());
+        return response;
     }
 
     private PublicUserProfileDTO toPublicUserProfileDTO(User user) {
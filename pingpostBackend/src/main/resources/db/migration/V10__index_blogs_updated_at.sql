@@ -0,0 +1,2 @@
+-- The search index catches up on blogs edited since its last commit when the application starts
+CREATE INDEX idx_blogs_updated_at ON blogs (updated_at);
@@ -0,0 +1,73 @@
+-- Schema as previously created by hibernate.ddl-auto=update. Existing databases are
+-- baselined at this version and only run the migrations after it.
+
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    bio VARCHAR(255),
+    email VARCHAR(255) NOT NULL,
+    full_name VARCHAR(255),
+    password VARCHAR(255) NOT NULL,
+    profile_picture VARCHAR(255),
+    username VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email),
+    CONSTRAINT UKr43af9ap4edm43mmtq01oddj6 UNIQUE (username)
+) ENGINE=InnoDB;
+
+CREATE TABLE user_followers (
+    follower_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (follower_id, user_id),
+    CONSTRAINT FKsauvjgnbgys3gbeharkga2omh FOREIGN KEY (follower_id) REFERENCES users (id),
+    CONSTRAINT FKox7c2m7d9qhhpu45d83luq19q FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE blogs (
+    author_id BIGINT NOT NULL,
+    created_at DATETIME(6),
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    updated_at DATETIME(6),
+    content TEXT,
+    image_url VARCHAR(255),
+    title VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FKt8g0udj2fq40771g38t2t011n FOREIGN KEY (author_id) REFERENCES users (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE blog_hashtags (
+    blog_id BIGINT NOT NULL,
+    hashtag VARCHAR(255),
+    CONSTRAINT FK7io7ajnks71mvudce1f4pc5dw FOREIGN KEY (blog_id) REFERENCES blogs (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE comments (
+    author_id BIGINT NOT NULL,
+    blog_id BIGINT NOT NULL,
+    created_at DATETIME(6),
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    content TEXT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FKn2na60ukhs76ibtpt9burkm27 FOREIGN KEY (author_id) REFERENCES users (id),
+    CONSTRAINT FK_comment_blog FOREIGN KEY (blog_id) REFERENCES blogs (id) ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+CREATE TABLE likes (
+    blog_id BIGINT NOT NULL,
+    created_at DATETIME(6),
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FK_like_blog FOREIGN KEY (blog_id) REFERENCES blogs (id) ON DELETE CASCADE,
+    CONSTRAINT FKnvx9seeqqyy71bij291pwiwrg FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB;
+
+-- Spring Modulith event publication registry
+CREATE TABLE event_publication (
+    completion_date DATETIME(6),
+    publication_date DATETIME(6),
+    id BINARY(16) NOT NULL,
+    event_type VARCHAR(255),
+    listener_id VARCHAR(255),
+    serialized_event VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
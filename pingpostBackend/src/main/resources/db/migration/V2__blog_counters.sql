@@ -0,0 +1,7 @@
+-- Like and comment counts are kept on the blog row; existing blogs are counted from the source rows
+ALTER TABLE blogs ADD COLUMN like_count INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE blogs ADD COLUMN comment_count INTEGER DEFAULT 0 NOT NULL;
+
+UPDATE blogs
+SET like_count = (SELECT COUNT(*) FROM likes l WHERE l.blog_id = blogs.id),
+    comment_count = (SELECT COUNT(*) FROM comments c WHERE c.blog_id = blogs.id);
@@ -0,0 +1,3 @@
+-- Seek pagination of the global feed and of one author's blogs
+CREATE INDEX idx_blogs_created_at_id ON blogs (created_at, id);
+CREATE INDEX idx_blogs_author_created_at ON blogs (author_id, created_at, id);
@@ -0,0 +1,25 @@
+-- Fan-out-on-write home timelines; authors over the fan-out threshold are flagged and merged in on read
+ALTER TABLE users ADD COLUMN high_fanout BIT DEFAULT FALSE NOT NULL;
+
+CREATE TABLE timeline_entries (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    blog_id BIGINT NOT NULL,
+    author_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_timeline_user_blog UNIQUE (user_id, blog_id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_timeline_user_created_blog ON timeline_entries (user_id, created_at, blog_id);
+CREATE INDEX idx_timeline_user_author ON timeline_entries (user_id, author_id);
+CREATE INDEX idx_timeline_blog ON timeline_entries (blog_id);
+
+-- Existing users start with their own and followed authors' blogs from the default 30-day retention
+INSERT INTO timeline_entries (user_id, blog_id, author_id, created_at)
+SELECT b.author_id, b.id, b.author_id, b.created_at FROM blogs b
+WHERE b.created_at >= CURRENT_TIMESTAMP - INTERVAL '30' DAY;
+
+INSERT INTO timeline_entries (user_id, blog_id, author_id, created_at)
+SELECT uf.follower_id, b.id, b.author_id, b.created_at FROM user_followers uf JOIN blogs b ON b.author_id = uf.user_id
+WHERE b.created_at >= CURRENT_TIMESTAMP - INTERVAL '30' DAY AND uf.follower_id <> uf.user_id;
@@ -0,0 +1,9 @@
+-- Follows become edges with a creation time. The primary key (follower_id, user_id) already answers
+-- pair lookups; followers and following lists are paged newest first from these two indexes.
+ALTER TABLE user_followers ADD COLUMN created_at DATETIME(6);
+
+CREATE INDEX idx_user_followers_user_created ON user_followers (user_id, created_at, follower_id);
+CREATE INDEX idx_user_followers_follower_created ON user_followers (follower_id, created_at, user_id);
+
+-- ddl-auto added a copy of the primary key on databases that ran earlier builds
+DROP INDEX IF EXISTS idx_user_followers_follower_user ON user_followers;
@@ -0,0 +1,10 @@
+-- Usage counts for hashtag suggestions; HashtagService seeds them from blog_hashtags on startup
+CREATE TABLE hashtags (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    usage_count BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_hashtags_name UNIQUE (name)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_blog_hashtags_hashtag ON blog_hashtags (hashtag, blog_id);
@@ -0,0 +1,9 @@
+-- Snapshot of the trending counters' live buckets, reloaded on startup
+CREATE TABLE trending_hashtag_buckets (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    hashtag VARCHAR(255) NOT NULL,
+    bucket BIGINT NOT NULL,
+    weight FLOAT(53) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_trending_hashtag_bucket UNIQUE (hashtag, bucket)
+) ENGINE=InnoDB;
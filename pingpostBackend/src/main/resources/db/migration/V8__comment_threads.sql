@@ -0,0 +1,5 @@
+-- One-level reply threads, both paged by cursor
+ALTER TABLE comments ADD COLUMN parent_id BIGINT;
+
+CREATE INDEX idx_comments_blog_created_id ON comments (blog_id, created_at, id);
+CREATE INDEX idx_comments_parent_created_id ON comments (parent_id, created_at, id);
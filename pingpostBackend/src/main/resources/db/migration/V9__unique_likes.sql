@@ -0,0 +1,12 @@
+-- One like per (user, blog): keep the oldest of any duplicates and recount the affected blogs
+DELETE FROM likes
+WHERE id NOT IN (SELECT keep.id FROM (SELECT MIN(id) AS id FROM likes GROUP BY user_id, blog_id) keep);
+
+UPDATE blogs
+SET like_count = (SELECT COUNT(*) FROM likes l WHERE l.blog_id = blogs.id)
+WHERE like_count <> (SELECT COUNT(*) FROM likes l WHERE l.blog_id = blogs.id);
+
+-- Replaces the plain index that ddl-auto created on databases that ran earlier builds; created
+-- before the old index is dropped so the user_id foreign key always has an index
+CREATE UNIQUE INDEX uk_likes_user_blog ON likes (user_id, blog_id);
+DROP INDEX IF EXISTS idx_likes_user_blog ON likes;
@@ -0,0 +1,107 @@
+package com.pingpost.pingpostBackend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pingpost.pingpostBackend.dto.BlogResponse;
+import com.pingpost.pingpostBackend.entity.Blog;
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.service.BlogResponseAssembler;
+import com.pingpost.pingpostBackend.service.HashtagService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * CPU-only work on every blog write and page read: hashtag extraction from a post body,
+ * entity to {@link BlogResponse} mapping and JSON serialization of a 20-blog page.
+ * {@code legacyExtractHashtags} reproduces the previous BlogService code, which compiled the
+ * pattern on every call. Allocation rates come from {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlogMappingBenchmark {
+    private static final int PAGE = 20;
+
+    private BlogResponseAssembler assembler;
+    private ObjectMapper objectMapper;
+    private String content;
+    private List<Blog> page;
+    private List<BlogResponse> responses;
+
+    @Setup
+    public void setUp() {
+        assembler = new BlogResponseAssembler(null);
+        // Configured like Boot's auto-configured mapper
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        Random random = new Random(42);
+        content = body(random) + " #Spring #java #performance " + body(random) + " #JMH";
+        page = new ArrayList<>(PAGE);
+        for (long id = 1; id <= PAGE; id++) {
+            User author = new User();
+            author.setId(id);
+            author.setUsername("author" + id);
+            author.setFullName("Author " + id);
+            Blog blog = new Blog();
+            blog.setId(id);
+            blog.setTitle("Post " + id);
+            blog.setContent(body(random));
+            blog.setAuthor(author);
+            blog.setHashtags(new HashSet<>(Set.of("tag" + random.nextInt(500), "tag" + (500 + random.nextInt(500)))));
+            blog.setCreatedAt(LocalDateTime.now().minusMinutes(id));
+            blog.setUpdatedAt(blog.getCreatedAt());
+            blog.setLikeCount(random.nextInt(200));
+            page.add(blog);
+        }
+        responses = toResponses();
+    }
+
+    @Benchmark
+    public Set<String> extractHashtags() {
+        return HashtagService.extract(content);
+    }
+
+    @Benchmark
+    public Set<String> legacyExtractHashtags() {
+        Set<String> hashtags = new HashSet<>();
+        Matcher matcher = Pattern.compile("#(\\w+)").matcher(content);
+        while (matcher.find()) {
+            hashtags.add(matcher.group(1).toLowerCase());
+        }
+        return hashtags;
+    }
+
+    @Benchmark
+    public List<BlogResponse> toResponses() {
+        List<BlogResponse> mapped = new ArrayList<>(PAGE);
+        for (Blog blog : page) mapped.add(assembler.toResponse(blog));
+        return mapped;
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    // About 600 characters, a typical post
+    private static String body(Random random) {
+        StringBuilder text = new StringBuilder(640);
+        while (text.length() < 600) text.append("word").append(random.nextInt(5_000)).append(' ');
+        return text.toString();
+    }
+}
@@ -0,0 +1,136 @@
+package com.pingpost.pingpostBackend.benchmark;
+
+import com.pingpost.pingpostBackend.PingpostBackendApplication;
+import com.pingpost.pingpostBackend.dto.BlogResponse;
+import com.pingpost.pingpostBackend.dto.CursorPaginatedResponse;
+import com.pingpost.pingpostBackend.service.BlogCursor;
+import com.pingpost.pingpostBackend.service.BlogResponseAssembler;
+import com.pingpost.pingpostBackend.service.BlogService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blog page reads through the service layer against the embedded H2 database, seeded with
+ * 100k posts by 5k authors by default, three hashtags each. Covers the feed (first and a deep
+ * cursor page), an author's page and assembling an arbitrary page of ids. Run with
+ * {@code -prof gc} (the profile default) to see bytes allocated per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlogReadPathBenchmark {
+    private static final int PAGE = 20;
+    private static final int HASHTAGS = 500;
+    private static final int BATCH = 5_000;
+
+    @Param("100000")
+    public int blogs;
+
+    @Param("5000")
+    public int users;
+
+    private ConfigurableApplicationContext context;
+    private BlogService blogService;
+    private BlogResponseAssembler assembler;
+    private String deepCursor;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(PingpostBackendApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.docker.compose.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        blogService = context.getBean(BlogService.class);
+        assembler = context.getBean(BlogResponseAssembler.class);
+        LocalDateTime newest = seed(new JdbcTemplate(context.getBean(DataSource.class)));
+        // Blog ids grow with age below, so the middle of the feed is blogs / 2
+        deepCursor = new BlogCursor(newest.minusMinutes(blogs / 2), (long) blogs / 2).encode();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPaginatedResponse<BlogResponse> feedFirstPage() {
+        return blogService.getBlogsByCursor(null, PAGE);
+    }
+
+    @Benchmark
+    public CursorPaginatedResponse<BlogResponse> feedDeepPage() {
+        return blogService.getBlogsByCursor(deepCursor, PAGE);
+    }
+
+    @Benchmark
+    public CursorPaginatedResponse<BlogResponse> authorPage() {
+        return blogService.getBlogsByUser("author" + (ThreadLocalRandom.current().nextInt(users) + 1), null, PAGE);
+    }
+
+    @Benchmark
+    public List<BlogResponse> assembleRandomPage() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Long> ids = new ArrayList<>(PAGE);
+        for (int i = 0; i < PAGE; i++) ids.add((long) random.nextInt(blogs) + 1);
+        return assembler.toResponsesByIds(ids);
+    }
+
+    private LocalDateTime seed(JdbcTemplate jdbc) {
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int id = 1; id <= users; id++) {
+            rows.add(new Object[]{id, "author" + id, "author" + id + "@example.com", "unused", "Author " + id});
+            if (rows.size() == BATCH || id == users) {
+                jdbc.batchUpdate("INSERT INTO users (id, username, email, password, full_name, high_fanout) " +
+                        "VALUES (?, ?, ?, ?, ?, FALSE)", rows);
+                rows.clear();
+            }
+        }
+
+        LocalDateTime newest = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Object[]> hashtags = new ArrayList<>(BATCH * 3);
+        for (int id = 1; id <= blogs; id++) {
+            Timestamp createdAt = Timestamp.valueOf(newest.minusMinutes(id));
+            rows.add(new Object[]{id, "Post " + id, body(random), random.nextInt(users) + 1, createdAt, createdAt,
+                    random.nextInt(200), random.nextInt(40)});
+            for (int tag : random.ints(0, HASHTAGS).distinct().limit(3).toArray()) {
+                hashtags.add(new Object[]{id, "tag" + tag});
+            }
+            if (rows.size() == BATCH || id == blogs) {
+                jdbc.batchUpdate("INSERT INTO blogs (id, title, content, author_id, created_at, updated_at, " +
+                        "like_count, comment_count) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+                jdbc.batchUpdate("INSERT INTO blog_hashtags (blog_id, hashtag) VALUES (?, ?)", hashtags);
+                rows.clear();
+                hashtags.clear();
+            }
+        }
+        return newest;
+    }
+
+    // About 600 characters, a typical post
+    private static String body(Random random) {
+        StringBuilder text = new StringBuilder(640);
+        while (text.length() < 600) text.append("word").append(random.nextInt(5_000)).append(' ');
+        return text.toString();
+    }
+}
@@ -0,0 +1,102 @@
+package com.pingpost.pingpostBackend.benchmark;
+
+import com.pingpost.pingpostBackend.entity.Blog;
+import com.pingpost.pingpostBackend.service.BlogSearchIndex;
+import org.apache.lucene.store.FSDirectory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Query latency of the blog search index over a synthetic corpus, 1M posts by default. Words
+ * are drawn from a skewed vocabulary so that low-numbered words are common and high-numbered
+ * ones rare. Building the index dominates setup time; pass {@code -p posts=100000} for a quick run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BlogSearchBenchmark {
+    private static final int VOCABULARY = 20_000;
+    private static final int WORDS_PER_POST = 80;
+    private static final int BATCH = 10_000;
+
+    @Param("1000000")
+    public int posts;
+
+    private Path dir;
+    private BlogSearchIndex index;
+
+    @Setup
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("blog-search-bench");
+        index = new BlogSearchIndex(FSDirectory.open(dir));
+        Random random = new Random(42);
+        List<Blog> batch = new ArrayList<>(BATCH);
+        for (long id = 1; id <= posts; id++) {
+            Blog blog = new Blog();
+            blog.setId(id);
+            blog.setTitle(words(random, 6));
+            blog.setContent(words(random, WORDS_PER_POST));
+            blog.setHashtags(Set.of(word(random)));
+            batch.add(blog);
+            if (batch.size() == BATCH) {
+                index.indexAll(batch);
+                batch.clear();
+            }
+        }
+        index.indexAll(batch);
+        index.commit();
+        index.refresh();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        index.close();
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public BlogSearchIndex.Result commonTerm() {
+        return index.search("w3", 0, 20);
+    }
+
+    @Benchmark
+    public BlogSearchIndex.Result rareTerm() {
+        return index.search("w15000", 0, 20);
+    }
+
+    @Benchmark
+    public BlogSearchIndex.Result threeTerms() {
+        return index.search("w12 w480 w9000", 0, 20);
+    }
+
+    @Benchmark
+    public BlogSearchIndex.Result deepPage() {
+        return index.search("w40", 50, 20);
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) text.append(word(random)).append(' ');
+        return text.toString();
+    }
+
+    private static String word(Random random) {
+        double r = random.nextDouble();
+        return "w" + (int) (r * r * r * VOCABULARY);
+    }
+}
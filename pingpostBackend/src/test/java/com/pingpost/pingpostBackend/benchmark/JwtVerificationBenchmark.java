@@ -0,0 +1,63 @@
+package com.pingpost.pingpostBackend.benchmark;
+
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.security.JwtService;
+import com.pingpost.pingpostBackend.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verifications per second for the request filter. {@code legacyVerify} reproduces the
+ * previous JwtService: key and parser rebuilt per call and three parses per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 86_400_000L, 604_800_000L);
+        user = new User();
+        user.setId(42L);
+        user.setUsername("benchmark");
+        user.setEmail("benchmark@example.com");
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public VerifiedToken verify() {
+        return jwtService.verify(token).orElseThrow();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean legacyVerify() {
+        String username = legacyClaims().getSubject();
+        return username.equals(user.getUsername())
+                && legacyClaims().getSubject().equals(user.getUsername())
+                && !legacyClaims().getExpiration().before(new Date());
+    }
+
+    private Claims legacyClaims() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,90 @@
+package com.pingpost.pingpostBackend.benchmark;
+
+import com.pingpost.pingpostBackend.PingpostBackendApplication;
+import com.pingpost.pingpostBackend.entity.Blog;
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.BlogRepository;
+import com.pingpost.pingpostBackend.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the running application in platform and virtual thread mode. Each trial boots
+ * the app on a random port against in-memory H2, seeds blogs and drives the first feed page
+ * with more concurrent clients than Tomcat's default 200 platform threads. Throughput and
+ * p99 come from the same run: {@code -bm thrpt,sample}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(400)
+public class RequestThreadingBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param("500")
+    public int blogs;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest feedPage;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(PingpostBackendApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.docker.compose.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        seed();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        feedPage = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/blogs?cursor=&size=20")).GET().build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int feedPage() throws IOException, InterruptedException {
+        return client.send(feedPage, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private void seed() {
+        User author = new User();
+        author.setUsername("load-author");
+        author.setEmail("load-author@example.com");
+        author.setPassword("unused");
+        context.getBean(UserRepository.class).save(author);
+        List<Blog> rows = new ArrayList<>(blogs);
+        for (int i = 0; i < blogs; i++) {
+            Blog blog = new Blog();
+            blog.setTitle("Load test post " + i);
+            blog.setContent("Body of load test post " + i);
+            blog.setAuthor(author);
+            rows.add(blog);
+        }
+        context.getBean(BlogRepository.class).saveAll(rows);
+    }
+}
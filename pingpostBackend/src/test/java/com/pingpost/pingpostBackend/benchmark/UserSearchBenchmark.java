@@ -0,0 +1,71 @@
+package com.pingpost.pingpostBackend.benchmark;
+
+import com.pingpost.pingpostBackend.repository.projection.UserSummary;
+import com.pingpost.pingpostBackend.service.UserSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * User search latency over a synthetic population, 2M users by default. Names are built from
+ * a few hundred first and last names plus a random suffix, so common trigrams have long
+ * posting lists, as they would for real names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx6g")
+public class UserSearchBenchmark {
+    private static final String[] SYLLABLES = {"an", "ma", "ri", "jo", "el", "ka", "to", "li", "sa", "ne", "ro", "da", "vi", "mi", "te", "lu"};
+
+    @Param("2000000")
+    public int users;
+
+    private UserSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        String[] first = names(random, 300);
+        String[] last = names(random, 500);
+        List<UserSummary> population = new ArrayList<>(users);
+        for (long id = 1; id <= users; id++) {
+            String firstName = first[random.nextInt(first.length)];
+            String lastName = last[random.nextInt(last.length)];
+            population.add(new UserSummary(id, firstName + lastName + random.nextInt(10_000), firstName + " " + lastName, null));
+        }
+        index = new UserSearchIndex(null);
+        index.load(population);
+    }
+
+    @Benchmark
+    public List<UserSummary> shortPrefix() {
+        return index.search("ma", 10);
+    }
+
+    @Benchmark
+    public List<UserSummary> commonName() {
+        return index.search("maria", 10);
+    }
+
+    @Benchmark
+    public List<UserSummary> fullNameWithTypo() {
+        return index.search("joanel ritosa", 10);
+    }
+
+    private static String[] names(Random random, int count) {
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder name = new StringBuilder();
+            int syllables = 2 + random.nextInt(3);
+            for (int s = 0; s < syllables; s++) name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            names[i] = name.toString();
+        }
+        return names;
+    }
+}
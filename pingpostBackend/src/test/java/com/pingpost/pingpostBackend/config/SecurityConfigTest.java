@@ -0,0 +1,26 @@
+package com.pingpost.pingpostBackend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecurityConfigTest {
+
+    @Test
+    void onPort_shouldOnlyMatchRequestsToTheManagementPort() {
+        RequestMatcher prometheus = SecurityConfig.onPort(8081, "/actuator/prometheus");
+
+        assertTrue(prometheus.matches(request(8081, "/actuator/prometheus")));
+        assertFalse(prometheus.matches(request(8080, "/actuator/prometheus")));
+        assertFalse(prometheus.matches(request(8081, "/actuator/metrics")));
+    }
+
+    private static MockHttpServletRequest request(int port, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        request.setLocalPort(port);
+        return request;
+    }
+}
@@ -0,0 +1,87 @@
+package com.pingpost.pingpostBackend.config;
+
+import com.pingpost.pingpostBackend.exception.ExcessiveSqlStatementsException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Transactional
+class SqlMetricsFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void request_shouldRecordStatementsPerEndpointAndServiceTimers() throws Exception {
+        mockMvc.perform(get("/api/blogs").param("page", "0").param("size", "5"))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.get("http.server.requests.sql.statements")
+                .tags("method", "GET", "uri", "/api/blogs")
+                .summary();
+        assertTrue(statements.count() >= 1);
+        assertTrue(statements.max() >= 1);
+        assertTrue(meterRegistry.get("http.server.requests.sql.time").tags("uri", "/api/blogs").timer().count() >= 1);
+        assertTrue(meterRegistry.get("jdbc.statements").tags("type", "select").timer().count() >= 1);
+        assertTrue(meterRegistry.get("pingpost.service").tags("class", "com.pingpost.pingpostBackend.service.BlogService").timer().count() >= 1);
+    }
+
+    @Test
+    void guard_shouldFailRequestsThatRepeatAStatementShape() throws Exception {
+        SqlStatementMetrics metrics = new SqlStatementMetrics(new SimpleMeterRegistry());
+        SqlMetricsFilter filter = new SqlMetricsFilter(metrics, new SimpleMeterRegistry(), 30, 2, true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me/likes");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/users/me/likes");
+
+        ExcessiveSqlStatementsException e = assertThrows(ExcessiveSqlStatementsException.class, () ->
+                filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                    for (int id = 1; id <= 3; id++) execute(metrics, "select * from users where id = " + id);
+                }));
+        assertTrue(e.getMessage().startsWith("GET /api/users/me/likes ran 3 SQL statements"));
+        assertTrue(e.getMessage().contains("3x select * from users where id = ?"));
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            execute(metrics, "select * from users where id = 1");
+            execute(metrics, "select * from blogs where id = 1");
+        });
+    }
+
+    @Test
+    void shape_shouldCollapseLiteralsInListsAndWhitespace() {
+        assertEquals("select * from likes where user_id=? and blog_id in (?...)",
+                SqlStatementMetrics.shape("select * from likes\n  where user_id=42 and blog_id in (?, ?,?)"));
+        assertEquals(SqlStatementMetrics.shape("select b1_0.id from blogs b1_0 where b1_0.id in (?)"),
+                SqlStatementMetrics.shape("select b1_0.id from blogs b1_0 where b1_0.id in (?,?,?,?)"));
+    }
+
+    private static void execute(SqlStatementMetrics metrics, String sql) {
+        ExecutionInfo execution = new ExecutionInfo();
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        metrics.beforeQuery(execution, queries);
+        metrics.afterQuery(execution, queries);
+    }
+}
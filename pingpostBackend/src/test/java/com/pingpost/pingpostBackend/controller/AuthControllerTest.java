@@ -40,7 +40,8 @@ class AuthControllerTest {
         mockMvc.perform(post("/api/auth/register")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(registerRequest)))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(1));
 
         // Login with the same user
         LoginRequest loginRequest = new LoginRequest();
@@ -50,6 +51,7 @@ class AuthControllerTest {
         mockMvc.perform(post("/api/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(loginRequest)))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2));
     }
 } 
\ No newline at end of file
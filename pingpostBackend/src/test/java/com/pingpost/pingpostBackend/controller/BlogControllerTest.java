@@ -1,22 +1,42 @@
 package com.pingpost.pingpostBackend.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pingpost.pingpostBackend.dto.BlogRequest;
+import com.pingpost.pingpostBackend.entity.Blog;
 import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.BlogRepository;
 import com.pingpost.pingpostBackend.repository.UserRepository;
 import com.pingpost.pingpostBackend.security.JwtService;
+import com.pingpost.pingpostBackend.service.BlogSearchIndex;
+import com.pingpost.pingpostBackend.service.HashtagIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @ActiveProfiles("test")
 @AutoConfigureMockMvc
+@Transactional
 class BlogControllerTest {
 
     @Autowired
@@ -28,12 +48,25 @@ class BlogControllerTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private HashtagIndex hashtagIndex;
+
+    @Autowired
+    private BlogSearchIndex blogSearchIndex;
+
+    private User user;
     private String jwtToken;
 
     @BeforeEach
     void setUp() {
         // Create a test user in H2
-        User user = new User();
+        user = new User();
         user.setUsername("testuser");
         user.setPassword("password");
         user.setEmail("testuser@example.com");
@@ -47,6 +80,155 @@ class BlogControllerTest {
     void getAllBlogs_withAuth_shouldReturnOk() throws Exception {
         mockMvc.perform(get("/api/blogs/all")
                 .header("Authorization", jwtToken))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(1));
+    }
+
+    @Test
+    void getBlogsByCursor_shouldWalkFeedNewestFirst() throws Exception {
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Blog blog = new Blog();
+            blog.setTitle("Cursor Blog " + i);
+            blog.setContent("Content " + i);
+            blog.setAuthor(user);
+            created.add(blogRepository.save(blog).getId());
+        }
+
+        String firstPage = mockMvc.perform(get("/api/blogs").param("cursor", "").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode first = objectMapper.readTree(firstPage);
+        assertEquals(2, first.get("content").size());
+        assertEquals(created.get(2), first.get("content").get(0).get("id").asLong());
+        assertEquals(created.get(1), first.get("content").get(1).get("id").asLong());
+
+        mockMvc.perform(get("/api/blogs")
+                        .param("cursor", first.get("nextCursor").asText())
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(created.get(0)));
+    }
+
+    @Test
+    void getBlogsByCursor_shouldRejectMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/blogs").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getBlogsByUser_shouldPageOnlyThatAuthorsBlogs() throws Exception {
+        User other = new User();
+        other.setUsername("otherauthor");
+        other.setPassword("password");
+        other.setEmail("otherauthor@example.com");
+        userRepository.save(other);
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            created.add(saveBlog(user, "Mine " + i).getId());
+            saveBlog(other, "Theirs " + i);
+        }
+
+        String firstPage = mockMvc.perform(get("/api/blogs/user/testuser").param("size", "2")
+                        .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(4))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.content[0].id").value(created.get(2)))
+                .andExpect(jsonPath("$.content[1].id").value(created.get(1)))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/blogs/user/testuser")
+                        .param("cursor", objectMapper.readTree(firstPage).get("nextCursor").asText())
+                        .param("size", "2")
+                        .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(4))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].author.username").value("testuser"));
+
+        mockMvc.perform(get("/api/blogs/user/nobody").header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(1))
+                .andExpect(jsonPath("$.content.length()").value(0));
+    }
+
+    @Test
+    void getAllBlogs_asNdjson_shouldStreamAsynchronously() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/blogs/all").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+    }
+
+    @Test
+    void hashtags_shouldBeSuggestedByPopularityAndSearchable() throws Exception {
+        publish("First", "Learning #Java and #JPA");
+        publish("Second", "More #java");
+        hashtagIndex.refresh();
+
+        mockMvc.perform(get("/api/blogs/hashtags").param("q", "#j").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(0))
+                .andExpect(jsonPath("$[0]").value("java"))
+                .andExpect(jsonPath("$[1]").value("jpa"));
+        mockMvc.perform(get("/api/blogs/hashtags").param("q", "jav").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(0))
+                .andExpect(jsonPath("$.length()").value(1));
+        mockMvc.perform(get("/api/blogs/search").param("hashtag", "JAVA")
+                        .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void search_shouldRankTitleMatchesFirstAndHighlightContent() throws Exception {
+        Blog inContent = saveBlog(user, "Notes");
+        inContent.setContent("Tuning a lucene analyzer for short posts");
+        Blog inTitle = saveBlog(user, "Lucene in production");
+        Blog unrelated = saveBlog(user, "Gardening");
+        // The test transaction never commits, so index directly instead of waiting for afterCommit
+        blogSearchIndex.indexAll(List.of(inContent, inTitle, unrelated));
+        blogSearchIndex.refresh();
+
+        mockMvc.perform(get("/api/blogs/search").param("q", "Lucene").param("size", "5")
+                        .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].blog.id").value(inTitle.getId()))
+                .andExpect(jsonPath("$.content[1].blog.id").value(inContent.getId()))
+                .andExpect(jsonPath("$.content[1].highlight").value("Tuning a <b>lucene</b> analyzer for short posts"));
+    }
+
+    private void publish(String title, String content) throws Exception {
+        BlogRequest request = new BlogRequest();
+        request.setTitle(title);
+        request.setContent(content);
+        mockMvc.perform(post("/api/blogs")
+                        .header("Authorization", jwtToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(11));
+    }
+
+    private Blog saveBlog(User author, String title) {
+        Blog blog = new Blog();
+        blog.setTitle(title);
+        blog.setContent("Content of " + title);
+        blog.setAuthor(author);
+        return blogRepository.save(blog);
     }
-} 
\ No newline at end of file
+}
@@ -19,6 +19,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -75,12 +76,14 @@ class CommentControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(addRequest)))
                 .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
                 .andReturn().getResponse().getContentAsString();
 
         // Get comments
         mockMvc.perform(get("/api/blogs/" + blogId + "/comments")
                 .header("Authorization", jwtToken))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(1));
 
         // Extract commentId from addResponse
         Long commentId = objectMapper.readTree(addResponse).get("id").asLong();
@@ -97,6 +100,58 @@ class CommentControllerTest {
         // Delete comment
         mockMvc.perform(delete("/api/blogs/" + blogId + "/comments/" + commentId)
                 .header("Authorization", jwtToken))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isNoContent())
+                .andExpect(SqlStatements.atMost(3));
+    }
+
+    @Test
+    void threadsAndReplies_shouldPageOldestFirst() throws Exception {
+        Long first = addComment("First", null);
+        Long second = addComment("Second", null);
+        addComment("Reply one", first);
+        addComment("Reply two", first);
+
+        String page = mockMvc.perform(get("/api/blogs/" + blogId + "/comments")
+                .param("cursor", "")
+                .param("size", "1")
+                .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(first))
+                .andExpect(jsonPath("$.content[0].replyCount").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/blogs/" + blogId + "/comments")
+                .param("cursor", objectMapper.readTree(page).get("nextCursor").asText())
+                .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(second))
+                .andExpect(jsonPath("$.content[0].replyCount").value(0));
+
+        mockMvc.perform(get("/api/blogs/" + blogId + "/comments/" + first + "/replies")
+                .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(1))
+                .andExpect(jsonPath("$.content[0].content").value("Reply one"))
+                .andExpect(jsonPath("$.content[1].content").value("Reply two"))
+                .andExpect(jsonPath("$.content[1].parentId").value(first));
+    }
+
+    private Long addComment(String content, Long parentId) throws Exception {
+        CommentRequest request = new CommentRequest();
+        request.setContent(content);
+        request.setParentId(parentId);
+        String response = mockMvc.perform(post("/api/blogs/" + blogId + "/comments")
+                .header("Authorization", jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package com.pingpost.pingpostBackend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pingpost.pingpostBackend.dto.BlogRequest;
+import com.pingpost.pingpostBackend.entity.Follow;
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.FollowRepository;
+import com.pingpost.pingpostBackend.repository.UserRepository;
+import com.pingpost.pingpostBackend.security.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Transactional
+class FeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private User author;
+    private String authorToken;
+    private String followerToken;
+    private String strangerToken;
+
+    @BeforeEach
+    void setUp() {
+        author = saveUser("feedauthor");
+        User follower = saveUser("feedfollower");
+        User stranger = saveUser("feedstranger");
+        followRepository.save(new Follow(author.getId(), follower.getId()));
+
+        authorToken = "Bearer " + jwtService.generateToken(author);
+        followerToken = "Bearer " + jwtService.generateToken(follower);
+        strangerToken = "Bearer " + jwtService.generateToken(stranger);
+    }
+
+    @Test
+    void publishedBlog_shouldReachFollowersAndAuthorOnly() throws Exception {
+        publish("Fan-out post");
+
+        mockMvc.perform(get("/api/feed").header("Authorization", followerToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(4))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Fan-out post"));
+
+        mockMvc.perform(get("/api/feed").header("Authorization", authorToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(4))
+                .andExpect(jsonPath("$.content.length()").value(1));
+
+        mockMvc.perform(get("/api/feed").header("Authorization", strangerToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(jsonPath("$.content.length()").value(0));
+    }
+
+    @Test
+    void highFanoutAuthor_shouldBeMergedOnRead() throws Exception {
+        userRepository.markHighFanout(author.getId());
+
+        publish("Read-path post");
+
+        mockMvc.perform(get("/api/feed").header("Authorization", followerToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(5))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Read-path post"));
+    }
+
+    @Test
+    void feed_shouldRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/api/feed"))
+                .andExpect(status().isForbidden());
+    }
+
+    private void publish(String title) throws Exception {
+        BlogRequest request = new BlogRequest();
+        request.setTitle(title);
+        request.setContent("Body of " + title);
+        mockMvc.perform(post("/api/blogs")
+                        .header("Authorization", authorToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(6));
+    }
+
+    private User saveUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword(passwordEncoder.encode("password"));
+        user.setEmail(username + "@example.com");
+        return userRepository.save(user);
+    }
+}
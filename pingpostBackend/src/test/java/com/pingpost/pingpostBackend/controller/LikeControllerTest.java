@@ -19,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -76,7 +77,8 @@ class LikeControllerTest {
         mockMvc.perform(post("/api/blogs/" + blogId + "/likes")
                 .header("Authorization", jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(3));
     }
 
     @Test
@@ -85,12 +87,74 @@ class LikeControllerTest {
         mockMvc.perform(post("/api/blogs/" + blogId + "/likes")
                 .header("Authorization", jwtToken)
                 .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(3));
 
         // Then check if liked
         mockMvc.perform(get("/api/blogs/" + blogId + "/likes/is-liked")
                 .header("Authorization", jwtToken))
                 .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(0))
                 .andExpect(content().string("true"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void likeCount_shouldFollowLikeAndUnlike() throws Exception {
+        mockMvc.perform(post("/api/blogs/" + blogId + "/likes")
+                .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(3));
+        // A repeated like must not be counted twice
+        mockMvc.perform(post("/api/blogs/" + blogId + "/likes")
+                .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(0));
+
+        mockMvc.perform(get("/api/blogs/" + blogId + "/likes/count")
+                .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(1))
+                .andExpect(content().string("1"));
+
+        mockMvc.perform(delete("/api/blogs/" + blogId + "/likes")
+                .header("Authorization", jwtToken))
+                .andExpect(status().isNoContent())
+                .andExpect(SqlStatements.atMost(2));
+
+        mockMvc.perform(get("/api/blogs/" + blogId + "/likes/count")
+                .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(1))
+                .andExpect(content().string("0"));
+    }
+
+    @Test
+    void likedBlogIds_shouldReturnLikedSubsetAndMarkFeedPage() throws Exception {
+        Blog other = new Blog();
+        other.setTitle("Other Blog");
+        other.setContent("Other Content");
+        other.setAuthor(userRepository.findByUsername("blogauthor").orElseThrow());
+        blogRepository.save(other);
+
+        mockMvc.perform(post("/api/blogs/" + blogId + "/likes")
+                .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(3));
+
+        mockMvc.perform(get("/api/blogs/liked")
+                .param("ids", blogId + "," + other.getId())
+                .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(1))
+                .andExpect(content().json("[" + blogId + "]"));
+
+        mockMvc.perform(get("/api/blogs")
+                .param("cursor", "")
+                .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(3))
+                .andExpect(jsonPath("$.content[0].id").value(other.getId()))
+                .andExpect(jsonPath("$.content[0].likedByMe").value(false))
+                .andExpect(jsonPath("$.content[1].likedByMe").value(true));
+    }
+}
@@ -0,0 +1,149 @@
+package com.pingpost.pingpostBackend.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.pingpost.pingpostBackend.entity.Blog;
+import com.pingpost.pingpostBackend.entity.Comment;
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.BlogRepository;
+import com.pingpost.pingpostBackend.repository.CommentRepository;
+import com.pingpost.pingpostBackend.repository.UserRepository;
+import com.pingpost.pingpostBackend.security.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Not @Transactional: R2DBC reads through its own connections, so the fixtures must be committed
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class ReactiveBlogControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private User user;
+    private Blog older;
+    private Blog newer;
+    private String jwtToken;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("reactive-reader");
+        user.setPassword("password");
+        user.setEmail("reactive-reader@example.com");
+        userRepository.save(user);
+        jwtToken = "Bearer " + jwtService.generateToken(user);
+
+        older = saveBlog("Older", Set.of("r2dbc"));
+        newer = saveBlog("Newer", Set.of());
+        for (int i = 0; i < 3; i++) {
+            Comment comment = new Comment();
+            comment.setContent("Comment " + i);
+            comment.setAuthor(user);
+            comment.setBlog(older);
+            commentRepository.save(comment);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAll(commentRepository.findByBlogId(older.getId()));
+        blogRepository.deleteAllById(Set.of(older.getId(), newer.getId()));
+        userRepository.delete(user);
+    }
+
+    @Test
+    void getFeed_shouldPageNewestFirst() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/reactive/blogs").param("size", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(first))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Newer"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = JsonPath.read(body, "$.nextCursor");
+
+        MvcResult second = mockMvc.perform(get("/api/reactive/blogs").param("size", "1").param("cursor", cursor))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(second))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Older"))
+                .andExpect(jsonPath("$.content[0].hashtags[0]").value("r2dbc"))
+                .andExpect(jsonPath("$.content[0].author.username").value("reactive-reader"));
+    }
+
+    @Test
+    void getBlog_shouldReturnBlogOrNotFound() throws Exception {
+        MvcResult found = mockMvc.perform(get("/api/reactive/blogs/{id}", older.getId())).andReturn();
+        mockMvc.perform(asyncDispatch(found))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentCount").value(0))
+                .andExpect(jsonPath("$.title").value("Older"));
+
+        MvcResult missing = mockMvc.perform(get("/api/reactive/blogs/{id}", Long.MAX_VALUE)).andReturn();
+        mockMvc.perform(asyncDispatch(missing)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void streamComments_shouldWriteOneCommentPerLine() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reactive/blogs/{id}/comments", older.getId())
+                        .header("Authorization", jwtToken)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5000);
+
+        String[] lines = result.getResponse().getContentAsString().strip().split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].contains("\"content\":\"Comment 0\""));
+        assertTrue(lines[2].contains("\"authorUsername\":\"reactive-reader\""));
+    }
+
+    @Test
+    void getLikeCount_shouldReadDenormalizedCounter() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reactive/blogs/{id}/likes/count", newer.getId())
+                        .header("Authorization", jwtToken))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0"));
+    }
+
+    private Blog saveBlog(String title, Set<String> hashtags) {
+        Blog blog = new Blog();
+        blog.setTitle(title);
+        blog.setContent("Content of " + title);
+        blog.setAuthor(user);
+        blog.setHashtags(hashtags);
+        return blogRepository.save(blog);
+    }
+}
@@ -0,0 +1,25 @@
+package com.pingpost.pingpostBackend.controller;
+
+import com.pingpost.pingpostBackend.config.SqlMetricsFilter;
+import com.pingpost.pingpostBackend.config.SqlStatementMetrics;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Statement budgets per endpoint, read from what {@link SqlMetricsFilter} counted for the request. */
+final class SqlStatements {
+
+    private SqlStatements() {
+    }
+
+    static ResultMatcher atMost(int max) {
+        return result -> {
+            SqlStatementMetrics.RequestStatements statements = (SqlStatementMetrics.RequestStatements)
+                    result.getRequest().getAttribute(SqlMetricsFilter.STATEMENTS_ATTRIBUTE);
+            assertNotNull(statements, "Request did not pass through SqlMetricsFilter");
+            assertTrue(statements.count() <= max, () -> "Expected at most " + max + " SQL statements, ran "
+                    + statements.count() + ": " + statements.shapes());
+        };
+    }
+}
@@ -2,9 +2,17 @@ package com.pingpost.pingpostBackend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pingpost.pingpostBackend.dto.UserProfileRequest;
+import com.pingpost.pingpostBackend.entity.Blog;
+import com.pingpost.pingpostBackend.entity.Comment;
+import com.pingpost.pingpostBackend.entity.Like;
 import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.BlogRepository;
+import com.pingpost.pingpostBackend.repository.CommentRepository;
+import com.pingpost.pingpostBackend.repository.LikeRepository;
 import com.pingpost.pingpostBackend.repository.UserRepository;
 import com.pingpost.pingpostBackend.security.JwtService;
+import com.pingpost.pingpostBackend.service.UserSearchIndex;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +24,10 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -41,6 +53,21 @@ class UserControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private String jwtToken;
     private String jwtToken2;
     private User user;
@@ -63,16 +90,148 @@ class UserControllerTest {
         jwtToken2 = "Bearer " + jwtService.generateToken(user2);
     }
 
+    @Test
+    void searchUsers_shouldReturnRankedSummaries() throws Exception {
+        user.setFullName("Ada Lovelace");
+        userRepository.save(user);
+        userSearchIndex.refresh();
+
+        mockMvc.perform(get("/api/users/search").param("q", "lovelace")
+                        .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(0))
+                .andExpect(jsonPath("$[0].username").value("user1"))
+                .andExpect(jsonPath("$[0].fullName").value("Ada Lovelace"))
+                .andExpect(jsonPath("$[0].id").value(user.getId()));
+        mockMvc.perform(get("/api/users/search").param("q", "user").param("limit", "1")
+                        .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(0))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
     @Test
     void follow_and_unfollow_shouldSucceed() throws Exception {
         // user1 follows user2
         mockMvc.perform(post("/api/users/user2/follow")
                 .header("Authorization", jwtToken))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2));
+
+        // user1 unfollows user2; the timeline listener's event publication is recorded as well
+        mockMvc.perform(post("/api/users/user2/unfollow")
+                .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(4));
+    }
+
+    @Test
+    void follow_shouldBeReflectedInCountsAndPagedLists() throws Exception {
+        mockMvc.perform(post("/api/users/user2/follow")
+                .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2));
+        // Following twice must not create a second edge
+        mockMvc.perform(post("/api/users/user2/follow")
+                .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(4));
+
+        mockMvc.perform(get("/api/users/user2/followers/count")
+                .header("Authorization", jwtToken2))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(jsonPath("$").value(1));
+        mockMvc.perform(get("/api/users/user1/following/count")
+                .header("Authorization", jwtToken2))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(jsonPath("$").value(1));
+        mockMvc.perform(get("/api/users/user2/is-following")
+                .header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(jsonPath("$").value(true));
+        mockMvc.perform(get("/api/users/user2/followers").param("page", "0").param("size", "10")
+                .header("Authorization", jwtToken2))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(jsonPath("$.content[0].username").value("user1"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+        mockMvc.perform(get("/api/users/user1/following")
+                .header("Authorization", jwtToken2))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(jsonPath("$.content[0].username").value("user2"));
 
-        // user1 unfollows user2
         mockMvc.perform(post("/api/users/user2/unfollow")
                 .header("Authorization", jwtToken))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2));
+
+        mockMvc.perform(get("/api/users/user2/followers/count")
+                .header("Authorization", jwtToken2))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(jsonPath("$").value(0));
+    }
+
+    @Test
+    void updateProfile_shouldKeepCredentialsOfTokenPrincipal() throws Exception {
+        UserProfileRequest request = new UserProfileRequest();
+        request.setFullName("User One");
+        request.setBio("Hello");
+
+        mockMvc.perform(put("/api/users/me")
+                .header("Authorization", jwtToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fullName").value("User One"));
+
+        User stored = userRepository.findByUsername("user1").orElseThrow();
+        assertEquals("User One", stored.getFullName());
+        assertEquals("user1@example.com", stored.getEmail());
+        assertTrue(passwordEncoder.matches("password", stored.getPassword()));
+    }
+
+    @Test
+    void likedBlogsAndComments_shouldFetchTheirGraphWithoutPerRowQueries() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Blog blog = new Blog();
+            blog.setTitle("Liked " + i);
+            blog.setContent("Content #liked");
+            blog.setHashtags(Set.of("liked"));
+            blog.setAuthor(user2);
+            blogRepository.save(blog);
+            Like like = new Like();
+            like.setUser(user);
+            like.setBlog(blog);
+            likeRepository.save(like);
+            Comment comment = new Comment();
+            comment.setContent("Comment " + i);
+            comment.setAuthor(user);
+            comment.setBlog(blog);
+            commentRepository.save(comment);
+        }
+        // Nothing left in the persistence context, so every lazy association would cost a query
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(get("/api/users/me/likes").header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(2))
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].author.username").value("user2"))
+                .andExpect(jsonPath("$[0].hashtags[0]").value("liked"));
+        // The blogs now come from the response cache; only the liked ids are read
+        mockMvc.perform(get("/api/users/me/likes").header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(1))
+                .andExpect(jsonPath("$.length()").value(3));
+        mockMvc.perform(get("/api/users/me/comments").header("Authorization", jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.atMost(1))
+                .andExpect(jsonPath("$.length()").value(3));
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,240 @@
+package com.pingpost.pingpostBackend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pingpost.pingpostBackend.PingpostBackendApplication;
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.security.JwtService;
+import com.pingpost.pingpostBackend.service.BlogSearchReindexer;
+import com.pingpost.pingpostBackend.service.HashtagService;
+import com.pingpost.pingpostBackend.service.UserSearchIndex;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * End-to-end load test. Boots the application on a random port against in-memory H2
+ * ({@code db=h2}, the default) or the MariaDB container from docker-compose.yml
+ * ({@code db=mariadb}, which must start out empty), seeds it with {@link SeedDataGenerator}
+ * and drives the {@link Workload} mix from {@code clients} virtual users, each on its own virtual
+ * thread in a closed loop. After {@code warmup}, every response is recorded per endpoint; the
+ * report gives throughput and p50/p99/p99.9 latency and is also written to
+ * target/loadtest-result.json.
+ *
+ * <pre>mvn -Pload-test test-compile exec:exec -Dloadtest.args="users=10000 blogs=100000 clients=64 duration=60"</pre>
+ */
+public class LoadTest {
+    private static final long MAX_LATENCY_MICROS = Duration.ofMinutes(1).toNanos() / 1_000;
+
+    record Config(String db, SeedDataGenerator.Volumes volumes, int clients, Duration warmup, Duration duration,
+                  boolean includeExport, long seed) {
+
+        static Config parse(String[] args) {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (String arg : args) {
+                int eq = arg.indexOf('=');
+                if (eq < 1) throw new IllegalArgumentException("Expected key=value, got " + arg);
+                values.put(arg.substring(0, eq), arg.substring(eq + 1));
+            }
+            Config config = new Config(
+                    values.getOrDefault("db", "h2"),
+                    new SeedDataGenerator.Volumes(
+                            intArg(values, "users", 10_000),
+                            intArg(values, "follows", 30),
+                            intArg(values, "blogs", 100_000),
+                            intArg(values, "likes", 500_000),
+                            intArg(values, "comments", 200_000),
+                            intArg(values, "hashtags", 2_000)),
+                    intArg(values, "clients", 64),
+                    Duration.ofSeconds(intArg(values, "warmup", 15)),
+                    Duration.ofSeconds(intArg(values, "duration", 60)),
+                    Boolean.parseBoolean(values.getOrDefault("export", "false")),
+                    Long.parseLong(values.getOrDefault("seed", "42")));
+            values.keySet().removeAll(List.of("db", "users", "follows", "blogs", "likes", "comments", "hashtags",
+                    "clients", "warmup", "duration", "export", "seed"));
+            if (!values.isEmpty()) throw new IllegalArgumentException("Unknown arguments " + values.keySet());
+            return config;
+        }
+
+        private static int intArg(Map<String, String> values, String key, int defaultValue) {
+            String value = values.get(key);
+            return value == null ? defaultValue : Integer.parseInt(value.replace("_", ""));
+        }
+    }
+
+    /** Latencies in microseconds, recorded by all clients concurrently. */
+    static final class EndpointStats {
+        final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Config config = Config.parse(args);
+        // Devtools would otherwise relaunch main in a restart class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        ConfigurableApplicationContext context = start(config.db());
+        try {
+            SeedDataGenerator data = new SeedDataGenerator(context.getBean(DataSource.class), config.volumes(), config.seed());
+            long seedStart = System.nanoTime();
+            data.seed(context.getEnvironment().getProperty("application.feed.fanout-threshold", Long.class, 10_000L));
+            // The in-memory indexes were loaded from the empty database at startup
+            context.getBean(HashtagService.class).seedAndLoadIndex();
+            context.getBean(UserSearchIndex.class).refresh();
+            context.getBean(BlogSearchReindexer.class).rebuildFrom(1);
+            System.out.printf("Seeded %s in %d s%n", config.volumes(), Duration.ofNanos(System.nanoTime() - seedStart).toSeconds());
+
+            URI base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            ObjectMapper objectMapper = new ObjectMapper();
+            Workload workload = new Workload(base, objectMapper, data, config.includeExport());
+            Map<String, EndpointStats> stats = run(config, workload, context.getBean(JwtService.class), objectMapper);
+            report(stats, config.duration(), objectMapper);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String db) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(PingpostBackendApplication.class);
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0", "--management.server.port=0", "--logging.level.root=WARN"));
+        switch (db) {
+            case "h2" -> {
+                builder.profiles("test");
+                // The test profile fails requests over their statement budget; under load they should only be logged
+                args.addAll(List.of("--spring.docker.compose.enabled=false", "--application.sql.guard.fail=false"));
+            }
+            // Boot starts the compose service and points both JDBC and R2DBC at it
+            case "mariadb" -> args.addAll(List.of(
+                    "--spring.docker.compose.enabled=true",
+                    "--spring.docker.compose.file=docker-compose.yml",
+                    "--spring.docker.compose.lifecycle-management=start-only"));
+            default -> throw new IllegalArgumentException("db must be h2 or mariadb, got " + db);
+        }
+        return builder.run(args.toArray(String[]::new));
+    }
+
+    private static Map<String, EndpointStats> run(Config config, Workload workload, JwtService jwtService,
+                                                  ObjectMapper objectMapper) throws InterruptedException {
+        Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+        workload.operations().forEach(operation -> stats.put(operation.endpoint(), new EndpointStats()));
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        long measureFrom = System.nanoTime() + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+
+        List<Thread> threads = new ArrayList<>(config.clients());
+        for (int i = 0; i < config.clients(); i++) {
+            // Spread the virtual users over the whole user table
+            int userId = 1 + (int) ((long) i * config.volumes().users() / config.clients());
+            Workload.Client client = new Workload.Client(userId, jwtService.generateToken(user(userId)));
+            threads.add(Thread.ofVirtual().name("load-client-" + i).start(() -> {
+                while (System.nanoTime() < end) {
+                    Workload.Operation operation = workload.pick();
+                    HttpRequest request = operation.request().apply(client);
+                    if (request == null) continue;
+                    long start = System.nanoTime();
+                    int status;
+                    String body = null;
+                    try {
+                        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+                        status = response.statusCode();
+                        body = response.body();
+                    } catch (IOException e) {
+                        status = -1;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    long micros = (System.nanoTime() - start) / 1_000;
+                    if (start >= measureFrom) {
+                        EndpointStats endpoint = stats.get(operation.endpoint());
+                        endpoint.latencies.recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+                        if (status < 200 || status >= 300) endpoint.errors.increment();
+                    }
+                    if (status >= 200 && status < 300 && operation.onSuccess() != null && body != null && !body.isEmpty()) {
+                        try {
+                            operation.onSuccess().accept(client, objectMapper.readTree(body));
+                        } catch (IOException ignored) {
+                            // Not JSON; nothing to remember
+                        }
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) thread.join();
+        http.close();
+        return stats;
+    }
+
+    private static User user(int id) {
+        User user = new User();
+        user.setId((long) id);
+        user.setUsername(SeedDataGenerator.username(id));
+        user.setEmail(SeedDataGenerator.username(id) + "@example.com");
+        user.setFullName("Load User " + id);
+        return user;
+    }
+
+    private static void report(Map<String, EndpointStats> stats, Duration duration, ObjectMapper objectMapper) throws IOException {
+        double seconds = duration.toMillis() / 1_000.0;
+        Histogram total = new Histogram(MAX_LATENCY_MICROS, 3);
+        long totalErrors = 0;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        System.out.printf("%n%-52s %9s %9s %7s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(stats).entrySet()) {
+            Histogram latencies = entry.getValue().latencies;
+            long errors = entry.getValue().errors.sum();
+            total.add(latencies);
+            totalErrors += errors;
+            rows.add(row(entry.getKey(), latencies, errors, seconds));
+            print(entry.getKey(), latencies, errors, seconds);
+        }
+        print("TOTAL", total, totalErrors, seconds);
+        rows.add(row("TOTAL", total, totalErrors, seconds));
+
+        Path result = Path.of("target", "loadtest-result.json");
+        Files.createDirectories(result.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(result.toFile(), rows);
+        System.out.println("\nResults written to " + result);
+    }
+
+    private static void print(String endpoint, Histogram latencies, long errors, double seconds) {
+        System.out.printf("%-52s %9d %9.1f %7d %9.2f %9.2f %9.2f %9.2f%n", endpoint, latencies.getTotalCount(),
+                latencies.getTotalCount() / seconds, errors, millis(latencies, 50), millis(latencies, 99),
+                millis(latencies, 99.9), latencies.getMaxValue() / 1_000.0);
+    }
+
+    private static Map<String, Object> row(String endpoint, Histogram latencies, long errors, double seconds) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("endpoint", endpoint);
+        row.put("requests", latencies.getTotalCount());
+        row.put("throughput", latencies.getTotalCount() / seconds);
+        row.put("errors", errors);
+        row.put("p50Ms", millis(latencies, 50));
+        row.put("p99Ms", millis(latencies, 99));
+        row.put("p999Ms", millis(latencies, 99.9));
+        row.put("maxMs", latencies.getMaxValue() / 1_000.0);
+        return row;
+    }
+
+    private static double millis(Histogram latencies, double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1_000.0;
+    }
+}
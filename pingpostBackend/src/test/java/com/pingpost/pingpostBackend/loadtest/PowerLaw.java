@@ -0,0 +1,38 @@
+package com.pingpost.pingpostBackend.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Zipf-distributed picks over ids 1..n. Popularity ranks are shuffled over the ids, so the most
+ * popular user or blog is not simply the first one inserted. Safe for concurrent use as long as
+ * every thread passes its own Random.
+ */
+final class PowerLaw {
+    private final double[] cdf;
+    private final int[] idByRank;
+
+    PowerLaw(int n, double exponent, Random random) {
+        cdf = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cdf[rank] = sum;
+        }
+        for (int rank = 0; rank < n; rank++) cdf[rank] /= sum;
+        idByRank = new int[n];
+        for (int i = 0; i < n; i++) idByRank[i] = i + 1;
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = idByRank[i];
+            idByRank[i] = idByRank[j];
+            idByRank[j] = swap;
+        }
+    }
+
+    int next(Random random) {
+        int rank = Arrays.binarySearch(cdf, random.nextDouble());
+        if (rank < 0) rank = -rank - 1;
+        return idByRank[Math.min(rank, idByRank.length - 1)];
+    }
+}
@@ -0,0 +1,202 @@
+package com.pingpost.pingpostBackend.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Seeds an empty database through batched JDBC inserts: users, a follow graph whose in-degree
+ * follows a power law, blogs with hashtags over the last 30 days, likes and comments skewed
+ * towards popular blogs, and one-level replies. The denormalized counters and high fan-out
+ * flags are derived from the inserted rows, so the data matches what the API would have written.
+ */
+public class SeedDataGenerator {
+    public static final String PASSWORD = "password";
+    private static final int BATCH = 5_000;
+    private static final int HISTORY_DAYS = 30;
+
+    public record Volumes(int users, int meanFollows, int blogs, int likes, int comments, int hashtags) {
+    }
+
+    private final JdbcTemplate jdbc;
+    private final Random random;
+    private final Volumes volumes;
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    private final PowerLaw popularUsers;
+    private final PowerLaw activeAuthors;
+    private final PowerLaw popularBlogs;
+    private final PowerLaw popularHashtags;
+    private int[] blogAuthors;
+
+    public SeedDataGenerator(DataSource dataSource, Volumes volumes, long seed) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.random = new Random(seed);
+        this.volumes = volumes;
+        this.popularUsers = new PowerLaw(volumes.users(), 1.1, random);
+        this.activeAuthors = new PowerLaw(volumes.users(), 0.8, random);
+        this.popularBlogs = new PowerLaw(volumes.blogs(), 1.0, random);
+        this.popularHashtags = new PowerLaw(volumes.hashtags(), 1.0, random);
+    }
+
+    // The workload picks targets with the same skew as the seeded data
+    PowerLaw popularUsers() {
+        return popularUsers;
+    }
+
+    PowerLaw popularBlogs() {
+        return popularBlogs;
+    }
+
+    PowerLaw popularHashtags() {
+        return popularHashtags;
+    }
+
+    public void seed(long fanoutThreshold) {
+        Integer existing = jdbc.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("Seeding needs an empty database, found " + existing + " users");
+        }
+        insertUsers();
+        insertFollows();
+        jdbc.update("UPDATE users SET high_fanout = TRUE WHERE id IN " +
+                "(SELECT uf.user_id FROM user_followers uf GROUP BY uf.user_id HAVING COUNT(*) > ?)", fanoutThreshold);
+        insertBlogs();
+        insertLikes();
+        insertComments();
+        jdbc.update("UPDATE blogs SET like_count = (SELECT COUNT(*) FROM likes l WHERE l.blog_id = blogs.id), " +
+                "comment_count = (SELECT COUNT(*) FROM comments c WHERE c.blog_id = blogs.id)");
+    }
+
+    private void insertUsers() {
+        // BCrypt is slow on purpose, so every seeded user shares one hash
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        Batch batch = new Batch("INSERT INTO users (id, username, email, password, full_name, bio, high_fanout) " +
+                "VALUES (?, ?, ?, ?, ?, ?, FALSE)");
+        for (int id = 1; id <= volumes.users(); id++) {
+            batch.add(id, username(id), username(id) + "@example.com", passwordHash, "Load User " + id, "Seeded for load tests");
+        }
+        batch.flush();
+    }
+
+    // Out-degrees are Pareto distributed around meanFollows; followees are picked by popularity
+    private void insertFollows() {
+        double alpha = 1.5;
+        double minFollows = volumes.meanFollows() * (alpha - 1) / alpha;
+        Batch batch = new Batch("INSERT INTO user_followers (user_id, follower_id, created_at) VALUES (?, ?, ?)");
+        for (int follower = 1; follower <= volumes.users(); follower++) {
+            double pareto = minFollows / Math.pow(1 - random.nextDouble(), 1 / alpha);
+            int follows = (int) Math.min(volumes.users() - 1, Math.round(pareto));
+            Set<Integer> followees = new HashSet<>();
+            for (int attempt = 0; followees.size() < follows && attempt < follows * 4; attempt++) {
+                int followee = popularUsers.next(random);
+                if (followee != follower && followees.add(followee)) {
+                    batch.add(followee, follower, timestamp(random.nextInt(HISTORY_DAYS * 24 * 60)));
+                }
+            }
+        }
+        batch.flush();
+    }
+
+    // Ids increase with time, the way the API assigns them
+    private void insertBlogs() {
+        blogAuthors = new int[volumes.blogs() + 1];
+        long spanMinutes = HISTORY_DAYS * 24 * 60L;
+        Batch blogs = new Batch("INSERT INTO blogs (id, title, content, author_id, created_at, updated_at, " +
+                "like_count, comment_count) VALUES (?, ?, ?, ?, ?, ?, 0, 0)");
+        Batch hashtags = new Batch("INSERT INTO blog_hashtags (blog_id, hashtag) VALUES (?, ?)", blogs);
+        for (int id = 1; id <= volumes.blogs(); id++) {
+            int author = activeAuthors.next(random);
+            blogAuthors[id] = author;
+            StringBuilder content = new StringBuilder(words(40 + random.nextInt(80)));
+            Set<String> tags = new HashSet<>();
+            for (int i = random.nextInt(4); i > 0; i--) tags.add("tag" + popularHashtags.next(random));
+            for (String tag : tags) content.append(" #").append(tag);
+            Timestamp createdAt = timestamp(spanMinutes - spanMinutes * id / volumes.blogs());
+            blogs.add(id, "Post " + id + " " + words(4), content.toString(), author, createdAt, createdAt);
+            for (String tag : tags) hashtags.add(id, tag);
+        }
+        blogs.flush();
+        hashtags.flush();
+    }
+
+    private void insertLikes() {
+        Set<Long> liked = new HashSet<>();
+        Batch batch = new Batch("INSERT INTO likes (user_id, blog_id, created_at) VALUES (?, ?, ?)");
+        for (int attempt = 0; liked.size() < volumes.likes() && attempt < volumes.likes() * 2; attempt++) {
+            int user = 1 + random.nextInt(volumes.users());
+            int blog = popularBlogs.next(random);
+            if (blogAuthors[blog] == user || !liked.add((long) user * (volumes.blogs() + 1) + blog)) continue;
+            batch.add(user, blog, timestamp(random.nextInt(60 * 24)));
+        }
+        batch.flush();
+    }
+
+    private void insertComments() {
+        // About a third of the comments reply to the latest thread on the same blog
+        int[] latestThread = new int[volumes.blogs() + 1];
+        Batch batch = new Batch("INSERT INTO comments (id, content, author_id, blog_id, parent_id, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)");
+        for (int id = 1; id <= volumes.comments(); id++) {
+            int blog = popularBlogs.next(random);
+            Integer parent = latestThread[blog] != 0 && random.nextInt(3) == 0 ? latestThread[blog] : null;
+            if (parent == null) latestThread[blog] = id;
+            batch.add(id, words(5 + random.nextInt(30)), 1 + random.nextInt(volumes.users()), blog, parent,
+                    timestamp((volumes.comments() - id) * 60L * 24 / volumes.comments()));
+        }
+        batch.flush();
+    }
+
+    public static String username(int id) {
+        return "loaduser" + id;
+    }
+
+    private Timestamp timestamp(long minutesAgo) {
+        return Timestamp.valueOf(now.minusMinutes(minutesAgo));
+    }
+
+    private String words(int count) {
+        StringBuilder text = new StringBuilder(count * 8);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) text.append(' ');
+            text.append("word").append(random.nextInt(5_000));
+        }
+        return text.toString();
+    }
+
+    private final class Batch {
+        private final String sql;
+        private final Batch referenced;
+        private final List<Object[]> rows = new ArrayList<>(BATCH);
+
+        Batch(String sql) {
+            this(sql, null);
+        }
+
+        // Rows of the referenced batch are written first, so foreign keys always resolve
+        Batch(String sql, Batch referenced) {
+            this.sql = sql;
+            this.referenced = referenced;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == BATCH) flush();
+        }
+
+        void flush() {
+            if (referenced != null) referenced.flush();
+            if (rows.isEmpty()) return;
+            jdbc.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.pingpost.pingpostBackend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * The request mix: every endpoint of the blog, like, comment and user controllers with a weight
+ * roughly proportional to how often the frontend calls it, reads dominating. Targets are picked
+ * with the seeded popularity skew. Updates and deletes only touch what the same client created,
+ * so they never fail on ownership checks.
+ */
+class Workload {
+    private static final int MAX_REMEMBERED = 32;
+
+    /** One endpoint; {@code request} returns null when the client has nothing to send it yet. */
+    record Operation(String endpoint, int weight, Function<Client, HttpRequest> request,
+                     BiConsumer<Client, JsonNode> onSuccess) {
+    }
+
+    record CommentRef(long blogId, long commentId) {
+    }
+
+    /** Per virtual user state; only ever touched by its own thread. */
+    static final class Client {
+        final int userId;
+        final String token;
+        final Deque<Long> ownBlogs = new ArrayDeque<>();
+        final Deque<CommentRef> ownComments = new ArrayDeque<>();
+        final Deque<Long> likedBlogs = new ArrayDeque<>();
+        final Deque<CommentRef> threadsWithReplies = new ArrayDeque<>();
+        String feedCursor;
+
+        Client(int userId, String token) {
+            this.userId = userId;
+            this.token = token;
+        }
+    }
+
+    private final URI base;
+    private final ObjectMapper objectMapper;
+    private final SeedDataGenerator data;
+    private final List<Operation> operations = new ArrayList<>();
+    private final int totalWeight;
+
+    Workload(URI base, ObjectMapper objectMapper, SeedDataGenerator data, boolean includeExport) {
+        this.base = base;
+        this.objectMapper = objectMapper;
+        this.data = data;
+
+        // BlogController
+        add("GET /api/blogs?cursor", 150, c -> get(c, "/api/blogs?size=10&cursor=" + (c.feedCursor == null ? "" : c.feedCursor)),
+                (c, page) -> c.feedCursor = page.path("hasNext").asBoolean() && random().nextInt(3) > 0
+                        ? page.path("nextCursor").asText() : null);
+        add("GET /api/blogs?page", 40, c -> get(c, "/api/blogs?size=10&page=" + random().nextInt(20)));
+        add("GET /api/blogs/{id}", 150, c -> get(c, "/api/blogs/" + blog()));
+        add("GET /api/blogs/user/{username}", 60, c -> get(c, "/api/blogs/user/" + popularUser() + "?size=10"));
+        add("GET /api/blogs/search?hashtag", 10, c -> get(c, "/api/blogs/search?hashtag=tag" + hashtag()));
+        add("GET /api/blogs/search?q", 30, c -> get(c, "/api/blogs/search?size=10&q=word" + random().nextInt(5_000)));
+        add("GET /api/blogs/hashtags", 30, c -> get(c, "/api/blogs/hashtags?q=tag" + (1 + random().nextInt(9))));
+        add("GET /api/blogs/hashtags/trending", 20, c -> get(c, "/api/blogs/hashtags/trending"));
+        add("POST /api/blogs", 20, c -> send(c, "POST", "/api/blogs", Map.of(
+                        "title", "Load post " + random().nextInt(1_000_000),
+                        "content", "Written during a load test #tag" + hashtag() + " #tag" + hashtag())),
+                (c, blog) -> remember(c.ownBlogs, blog.path("id").asLong()));
+        add("PUT /api/blogs/{id}", 5, c -> c.ownBlogs.isEmpty() ? null : send(c, "PUT", "/api/blogs/" + c.ownBlogs.peekLast(),
+                Map.of("title", "Edited load post", "content", "Edited during a load test #tag" + hashtag())));
+        add("DELETE /api/blogs/{id}", 3, c -> c.ownBlogs.isEmpty() ? null : send(c, "DELETE", "/api/blogs/" + c.ownBlogs.pollFirst(), null));
+        if (includeExport) {
+            add("GET /api/blogs/all", 1, c -> get(c, "/api/blogs/all"));
+            add("GET /api/blogs/all (ndjson)", 1, c -> authorized(c, "/api/blogs/all").header("Accept", "application/x-ndjson").GET().build());
+        }
+
+        // LikeController
+        add("POST /api/blogs/{id}/likes", 50, c -> {
+            long blogId = blog();
+            remember(c.likedBlogs, blogId);
+            return send(c, "POST", "/api/blogs/" + blogId + "/likes", null);
+        });
+        add("DELETE /api/blogs/{id}/likes", 20, c -> send(c, "DELETE",
+                "/api/blogs/" + (c.likedBlogs.isEmpty() ? blog() : c.likedBlogs.pollFirst()) + "/likes", null));
+        add("GET /api/blogs/{id}/likes/count", 30, c -> get(c, "/api/blogs/" + blog() + "/likes/count"));
+        add("GET /api/blogs/{id}/likes/is-liked", 30, c -> get(c, "/api/blogs/" + blog() + "/likes/is-liked"));
+        add("GET /api/blogs/liked?ids", 40, c -> {
+            StringJoiner ids = new StringJoiner(",");
+            for (int i = 0; i < 10; i++) ids.add(Long.toString(blog()));
+            return get(c, "/api/blogs/liked?ids=" + ids);
+        });
+
+        // CommentController
+        add("POST /api/blogs/{id}/comments", 25, c -> {
+            CommentRef thread = c.threadsWithReplies.isEmpty() || random().nextInt(3) > 0 ? null : c.threadsWithReplies.peekLast();
+            long blogId = thread == null ? blog() : thread.blogId();
+            Map<String, Object> body = thread == null
+                    ? Map.of("content", "Load test comment")
+                    : Map.of("content", "Load test reply", "parentId", thread.commentId());
+            return send(c, "POST", "/api/blogs/" + blogId + "/comments", body);
+        }, (c, comment) -> remember(c.ownComments, new CommentRef(comment.path("blogId").asLong(), comment.path("id").asLong())));
+        add("GET /api/blogs/{id}/comments", 20, c -> get(c, "/api/blogs/" + blog() + "/comments"));
+        add("GET /api/blogs/{id}/comments?cursor", 40, c -> get(c, "/api/blogs/" + blog() + "/comments?cursor=&size=20"),
+                (c, page) -> page.path("content").forEach(thread -> {
+                    if (thread.path("replyCount").asLong() > 0) {
+                        remember(c.threadsWithReplies, new CommentRef(thread.path("blogId").asLong(), thread.path("id").asLong()));
+                    }
+                }));
+        add("GET /api/blogs/{id}/comments/{commentId}/replies", 15, c -> {
+            CommentRef thread = c.threadsWithReplies.peekLast();
+            return thread == null ? null : get(c, "/api/blogs/" + thread.blogId() + "/comments/" + thread.commentId() + "/replies");
+        });
+        add("PUT /api/blogs/{id}/comments/{commentId}", 5, c -> {
+            CommentRef own = c.ownComments.peekLast();
+            return own == null ? null : send(c, "PUT", "/api/blogs/" + own.blogId() + "/comments/" + own.commentId(),
+                    Map.of("content", "Edited load test comment"));
+        });
+        add("DELETE /api/blogs/{id}/comments/{commentId}", 3, c -> {
+            CommentRef own = c.ownComments.pollFirst();
+            return own == null ? null : send(c, "DELETE", "/api/blogs/" + own.blogId() + "/comments/" + own.commentId(), null);
+        });
+
+        // UserController
+        add("PUT /api/users/me", 5, c -> send(c, "PUT", "/api/users/me",
+                Map.of("fullName", "Load User " + c.userId, "bio", "Updated " + random().nextInt(1_000))));
+        add("GET /api/users/me/likes", 10, c -> get(c, "/api/users/me/likes"));
+        add("GET /api/users/me/comments", 10, c -> get(c, "/api/users/me/comments"));
+        add("GET /api/users/search", 30, c -> get(c, "/api/users/search?q=loaduser" + (1 + random().nextInt(99))));
+        add("GET /api/users/public/{username}", 30, c -> get(c, "/api/users/public/" + popularUser()));
+        add("POST /api/users/{username}/follow", 15, c -> followTarget(c, "follow"));
+        add("POST /api/users/{username}/unfollow", 8, c -> followTarget(c, "unfollow"));
+        add("GET /api/users/{username}/followers/count", 20, c -> get(c, "/api/users/" + popularUser() + "/followers/count"));
+        add("GET /api/users/{username}/following/count", 20, c -> get(c, "/api/users/" + popularUser() + "/following/count"));
+        add("GET /api/users/{username}/is-following", 20, c -> get(c, "/api/users/" + popularUser() + "/is-following"));
+        add("GET /api/users/{username}/followers", 15, c -> get(c, "/api/users/" + popularUser() + "/followers?size=20"));
+        add("GET /api/users/{username}/following", 15, c -> get(c, "/api/users/" + popularUser() + "/following?size=20"));
+
+        totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    List<Operation> operations() {
+        return operations;
+    }
+
+    Operation pick() {
+        int ticket = random().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            ticket -= operation.weight();
+            if (ticket < 0) return operation;
+        }
+        throw new IllegalStateException();
+    }
+
+    private void add(String endpoint, int weight, Function<Client, HttpRequest> request) {
+        add(endpoint, weight, request, null);
+    }
+
+    private void add(String endpoint, int weight, Function<Client, HttpRequest> request, BiConsumer<Client, JsonNode> onSuccess) {
+        operations.add(new Operation(endpoint, weight, request, onSuccess));
+    }
+
+    private HttpRequest followTarget(Client c, String action) {
+        int target = data.popularUsers().next(random());
+        if (target == c.userId) return null;
+        return send(c, "POST", "/api/users/" + SeedDataGenerator.username(target) + "/" + action, null);
+    }
+
+    private HttpRequest get(Client c, String path) {
+        return authorized(c, path).GET().build();
+    }
+
+    private HttpRequest send(Client c, String method, String path, Object body) {
+        HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.noBody();
+        if (body != null) {
+            try {
+                publisher = HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+            } catch (Exception e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+        return authorized(c, path).header("Content-Type", "application/json").method(method, publisher).build();
+    }
+
+    private HttpRequest.Builder authorized(Client c, String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).header("Authorization", "Bearer " + c.token);
+    }
+
+    private long blog() {
+        return data.popularBlogs().next(random());
+    }
+
+    private String popularUser() {
+        return URLEncoder.encode(SeedDataGenerator.username(data.popularUsers().next(random())), StandardCharsets.UTF_8);
+    }
+
+    private int hashtag() {
+        return data.popularHashtags().next(random());
+    }
+
+    private static <T> void remember(Deque<T> deque, T value) {
+        deque.addLast(value);
+        if (deque.size() > MAX_REMEMBERED) deque.pollFirst();
+    }
+
+    private static ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+}
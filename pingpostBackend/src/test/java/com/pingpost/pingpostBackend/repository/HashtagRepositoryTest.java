@@ -0,0 +1,49 @@
+package com.pingpost.pingpostBackend.repository;
+
+import com.pingpost.pingpostBackend.entity.Hashtag;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class HashtagRepositoryTest {
+
+    @Autowired
+    private HashtagRepository hashtagRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void incrementOrInsert_shouldInsertAMissingTag() {
+        hashtagRepository.incrementOrInsert("brandnew");
+
+        assertEquals(1L, usage("brandnew"));
+    }
+
+    @Test
+    void incrementOrInsert_shouldCountATagInsertedConcurrently() {
+        // Another publish created the row after this one found it missing
+        hashtagRepository.saveAndFlush(new Hashtag("racing", 1));
+
+        hashtagRepository.incrementOrInsert("racing");
+
+        assertEquals(2L, usage("racing"));
+        assertEquals(1L, hashtagRepository.findAll().stream().filter(h -> h.getName().equals("racing")).count());
+    }
+
+    private long usage(String name) {
+        entityManager.clear();
+        return hashtagRepository.findAll().stream()
+                .filter(h -> h.getName().equals(name))
+                .findFirst().orElseThrow()
+                .getUsageCount();
+    }
+}
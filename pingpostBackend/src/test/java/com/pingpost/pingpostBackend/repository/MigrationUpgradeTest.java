@@ -0,0 +1,48 @@
+package com.pingpost.pingpostBackend.repository;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Upgrades a database as ddl-auto left it before migrations existed: V1 is applied by hand with
+ * data in it, then Flyway baselines it and runs everything after V1, as on startup.
+ */
+class MigrationUpgradeTest {
+
+    @Test
+    void migrate_shouldUpgradeADatabaseCreatedByDdlAuto() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:upgrade;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline.sql")).execute(dataSource);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
+        jdbc.update("INSERT INTO users (id, email, password, username) VALUES (1, 'a@x', 'p', 'author'), (2, 'f@x', 'p', 'follower')");
+        jdbc.update("INSERT INTO user_followers (follower_id, user_id) VALUES (2, 1)");
+        jdbc.update("INSERT INTO blogs (id, author_id, title, created_at, updated_at) VALUES (10, 1, 'Old post', ?, ?)", yesterday, yesterday);
+        jdbc.update("INSERT INTO blog_hashtags (blog_id, hashtag) VALUES (10, 'java')");
+        jdbc.update("INSERT INTO likes (blog_id, user_id, created_at) VALUES (10, 2, ?), (10, 2, ?)", yesterday, yesterday);
+        jdbc.update("INSERT INTO comments (blog_id, author_id, content, created_at) VALUES (10, 2, 'Nice', ?)", yesterday);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        assertEquals(1, jdbc.queryForObject("SELECT like_count FROM blogs WHERE id = 10", Integer.class));
+        assertEquals(1, jdbc.queryForObject("SELECT comment_count FROM blogs WHERE id = 10", Integer.class));
+        assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM likes", Integer.class));
+        assertEquals(2, jdbc.queryForObject("SELECT COUNT(*) FROM timeline_entries WHERE blog_id = 10", Integer.class));
+        assertFalse(jdbc.queryForObject("SELECT high_fanout FROM users WHERE id = 1", Boolean.class));
+        assertNull(jdbc.queryForObject("SELECT parent_id FROM comments", Long.class));
+    }
+}
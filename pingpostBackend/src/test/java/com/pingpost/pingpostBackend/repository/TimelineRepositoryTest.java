@@ -0,0 +1,71 @@
+package com.pingpost.pingpostBackend.repository;
+
+import com.pingpost.pingpostBackend.entity.Blog;
+import com.pingpost.pingpostBackend.entity.Follow;
+import com.pingpost.pingpostBackend.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TimelineRepositoryTest {
+
+    @Autowired
+    private TimelineRepository timelineRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BlogRepository blogRepository;
+    @Autowired
+    private FollowRepository followRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private User author;
+    private User follower;
+    private Blog blog;
+
+    @BeforeEach
+    void setUp() {
+        author = saveUser("timelineauthor");
+        follower = saveUser("timelinefollower");
+        blog = new Blog();
+        blog.setTitle("Delivered");
+        blog.setAuthor(author);
+        blogRepository.save(blog);
+        entityManager.flush();
+    }
+
+    @Test
+    void fanOutToFollowers_shouldSkipARowAlreadyBackfilled() {
+        followRepository.saveAndFlush(new Follow(author.getId(), follower.getId()));
+        // A follow backfill delivered the blog before the publishing transaction fanned it out
+        assertEquals(1, timelineRepository.backfillFromAuthor(follower.getId(), author.getId(), LocalDateTime.now().minusDays(1)));
+
+        assertEquals(0, timelineRepository.fanOutToFollowers(blog.getId(), author.getId(), blog.getCreatedAt()));
+        assertEquals(1, timelineRepository.count());
+    }
+
+    @Test
+    void backfillFromAuthor_shouldCopyNothingOnceUnfollowed() {
+        assertEquals(0, timelineRepository.backfillFromAuthor(follower.getId(), author.getId(), LocalDateTime.now().minusDays(1)));
+    }
+
+    private User saveUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("password");
+        user.setEmail(username + "@example.com");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,70 @@
+package com.pingpost.pingpostBackend.security;
+
+import com.pingpost.pingpostBackend.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, 60_000L, 120_000L);
+        user = new User();
+        user.setId(7L);
+        user.setUsername("testuser");
+        user.setEmail("test@example.com");
+    }
+
+    @Test
+    void verify_shouldExposeClaimsOfValidToken() {
+        String token = jwtService.generateToken(user);
+
+        VerifiedToken verified = jwtService.verify(token).orElseThrow();
+
+        assertEquals("testuser", verified.username());
+        assertEquals(7L, verified.userId());
+        assertTrue(verified.expiresAt().getTime() > System.currentTimeMillis());
+        assertTrue(jwtService.isTokenValid(token, user));
+    }
+
+    @Test
+    void verify_shouldRejectTamperedToken() {
+        String token = jwtService.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertEquals(Optional.empty(), jwtService.verify(tampered));
+        assertEquals(Optional.empty(), jwtService.verify("not-a-jwt"));
+    }
+
+    @Test
+    void verify_shouldRejectExpiredToken() {
+        JwtService shortLived = new JwtService(SECRET, -1_000L, -1_000L);
+        String token = shortLived.generateToken(user);
+
+        assertTrue(jwtService.verify(token).isEmpty());
+        assertFalse(jwtService.isTokenValid(token, user));
+    }
+
+    @Test
+    void verify_shouldRejectTokenSignedWithOtherKey() {
+        JwtService other = new JwtService(SECRET.replace('4', '5'), 60_000L, 120_000L);
+
+        assertTrue(jwtService.verify(other.generateToken(user)).isEmpty());
+    }
+
+    @Test
+    void isTokenValid_shouldRejectOtherUser() {
+        User otherUser = new User();
+        otherUser.setUsername("otheruser");
+
+        assertFalse(jwtService.isTokenValid(jwtService.generateToken(user), otherUser));
+    }
+}
@@ -0,0 +1,97 @@
+package com.pingpost.pingpostBackend.security;
+
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PrincipalResolverTest {
+    @Mock
+    private UserRepository userRepository;
+
+    private User stored;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        stored = new User();
+        stored.setId(3L);
+        stored.setUsername("testuser");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(stored));
+    }
+
+    @Test
+    void tokenSource_shouldBuildPrincipalFromClaimsWithoutQueries() {
+        PrincipalResolver resolver = resolver(PrincipalResolver.Source.TOKEN);
+        Claims claims = Jwts.claims().setSubject("testuser");
+        claims.put("id", 3);
+        claims.put("email", "test@example.com");
+        claims.put("fullName", "Test User");
+
+        User user = resolver.resolve(new VerifiedToken(claims)).orElseThrow();
+
+        assertEquals(3L, user.getId());
+        assertEquals("testuser", user.getUsername());
+        assertEquals("test@example.com", user.getEmail());
+        assertEquals("Test User", user.getFullName());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void tokenSource_shouldFallBackToCacheForTokensWithoutId() {
+        PrincipalResolver resolver = resolver(PrincipalResolver.Source.TOKEN);
+
+        assertSame(stored, resolver.resolve(token()).orElseThrow());
+    }
+
+    @Test
+    void cacheSource_shouldLoadOnceUntilEvicted() {
+        PrincipalResolver resolver = resolver(PrincipalResolver.Source.CACHE);
+
+        resolver.resolve(token());
+        resolver.resolve(token());
+        verify(userRepository, times(1)).findByUsername("testuser");
+
+        resolver.evict("testuser");
+        resolver.resolve(token());
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
+
+    @Test
+    void cacheSource_shouldNotCacheUnknownUsers() {
+        PrincipalResolver resolver = resolver(PrincipalResolver.Source.CACHE);
+        VerifiedToken unknown = new VerifiedToken(Jwts.claims().setSubject("ghost"));
+
+        assertTrue(resolver.resolve(unknown).isEmpty());
+        assertTrue(resolver.resolve(unknown).isEmpty());
+        verify(userRepository, times(2)).findByUsername("ghost");
+    }
+
+    @Test
+    void databaseSource_shouldQueryEveryTime() {
+        PrincipalResolver resolver = resolver(PrincipalResolver.Source.DATABASE);
+
+        resolver.resolve(token());
+        resolver.resolve(token());
+
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
+
+    private PrincipalResolver resolver(PrincipalResolver.Source source) {
+        return new PrincipalResolver(userRepository, source, 100, Duration.ofMinutes(1));
+    }
+
+    private VerifiedToken token() {
+        return new VerifiedToken(Jwts.claims().setSubject("testuser"));
+    }
+}
@@ -29,6 +29,8 @@ class AuthServiceTest {
     private JwtService jwtService;
     @Mock
     private AuthenticationManager authenticationManager;
+    @Mock
+    private UserSearchIndex userSearchIndex;
 
     @InjectMocks
     private AuthService authService;
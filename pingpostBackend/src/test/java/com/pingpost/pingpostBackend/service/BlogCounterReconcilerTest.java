@@ -0,0 +1,65 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BlogCounterReconcilerTest {
+    @Mock
+    private BlogRepository blogRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private BlogResponseCache blogResponseCache;
+
+    private BlogCounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        reconciler = new BlogCounterReconciler(blogRepository, transactionTemplate, blogResponseCache, 100);
+    }
+
+    @Test
+    void reconcile_shouldWalkAllIdRangesInBatches() {
+        when(blogRepository.findMaxId()).thenReturn(250L);
+
+        reconciler.reconcile();
+
+        verify(blogRepository).reconcileCounters(1L, 100L);
+        verify(blogRepository).reconcileCounters(101L, 200L);
+        verify(blogRepository).reconcileCounters(201L, 300L);
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    void reconcile_shouldFlushCachedResponsesWhenCountersChanged() {
+        when(blogRepository.findMaxId()).thenReturn(50L);
+        when(blogRepository.reconcileCounters(1L, 100L)).thenReturn(2);
+
+        reconciler.reconcile();
+
+        verify(blogResponseCache, times(1)).evictAll();
+    }
+
+    @Test
+    void reconcile_shouldDoNothingWithoutBlogs() {
+        when(blogRepository.findMaxId()).thenReturn(0L);
+
+        reconciler.reconcile();
+
+        verify(blogRepository, never()).reconcileCounters(anyLong(), anyLong());
+        verify(blogResponseCache, never()).evictAll();
+    }
+}
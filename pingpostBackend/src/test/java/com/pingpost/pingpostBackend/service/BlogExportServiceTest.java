@@ -0,0 +1,75 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pingpost.pingpostBackend.entity.Blog;
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.BlogRepository;
+import com.pingpost.pingpostBackend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class BlogExportServiceTest {
+    @Autowired
+    private BlogExportService blogExportService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BlogRepository blogRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void writeNdjson_shouldWriteOneLinePerBlogWithGroupedHashtags() throws Exception {
+        User author = new User();
+        author.setUsername("exporter");
+        author.setPassword("password");
+        author.setEmail("exporter@example.com");
+        author.setFullName("Ex Porter");
+        userRepository.save(author);
+        Blog tagged = saveBlog(author, "Tagged", Set.of("java", "spring", "jdbc"));
+        Blog plain = saveBlog(author, "Plain", Set.of());
+        entityManager.flush();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        blogExportService.writeNdjson(out);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertEquals(2, lines.size());
+        assertEquals(plain.getId(), lines.get(0).get("id").asLong());
+        assertEquals(0, lines.get(0).get("hashtags").size());
+        assertEquals(tagged.getId(), lines.get(1).get("id").asLong());
+        assertEquals("Tagged", lines.get(1).get("title").asText());
+        assertEquals("Ex Porter", lines.get(1).get("author").get("fullName").asText());
+        assertEquals(3, lines.get(1).get("hashtags").size());
+    }
+
+    private Blog saveBlog(User author, String title, Set<String> hashtags) {
+        Blog blog = new Blog();
+        blog.setTitle(title);
+        blog.setContent("Content of " + title);
+        blog.setAuthor(author);
+        blog.setHashtags(new java.util.HashSet<>(hashtags));
+        return blogRepository.save(blog);
+    }
+}
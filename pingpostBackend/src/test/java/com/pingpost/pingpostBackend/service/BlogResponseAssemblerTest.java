@@ -0,0 +1,102 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.dto.BlogResponse;
+import com.pingpost.pingpostBackend.entity.Blog;
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BlogResponseAssemblerTest {
+    @Mock
+    private BlogRepository blogRepository;
+
+    @InjectMocks
+    private BlogResponseAssembler assembler;
+
+    private Blog first;
+    private Blog second;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        User author = new User();
+        author.setId(1L);
+        author.setUsername("author");
+        author.setFullName("The Author");
+
+        first = new Blog();
+        first.setId(1L);
+        first.setTitle("First");
+        first.setAuthor(author);
+        first.setHashtags(Set.of("java"));
+        first.setLikeCount(4);
+
+        second = new Blog();
+        second.setId(2L);
+        second.setTitle("Second");
+        second.setAuthor(author);
+        second.setLikeCount(9);
+        second.setCommentCount(3);
+    }
+
+    @Test
+    void toResponsesByIds_shouldKeepRequestedOrderAndUseStoredCounters() {
+        when(blogRepository.findAllWithAuthorAndHashtagsByIdIn(List.of(2L, 1L))).thenReturn(List.of(first, second));
+
+        List<BlogResponse> responses = assembler.toResponsesByIds(List.of(2L, 1L));
+
+        assertEquals(2, responses.size());
+        assertEquals("Second", responses.get(0).getTitle());
+        assertEquals(9, responses.get(0).getLikeCount());
+        assertEquals(3, responses.get(0).getCommentCount());
+        assertEquals("First", responses.get(1).getTitle());
+        assertEquals(4, responses.get(1).getLikeCount());
+        assertEquals(0, responses.get(1).getCommentCount());
+        assertEquals(Set.of("java"), responses.get(1).getHashtags());
+        assertEquals("author", responses.get(1).getAuthor().getUsername());
+        verify(blogRepository, times(1)).findAllWithAuthorAndHashtagsByIdIn(List.of(2L, 1L));
+        verifyNoMoreInteractions(blogRepository);
+    }
+
+    @Test
+    void toResponsesByIds_shouldFetchLongIdListsInBoundedChunks() {
+        List<Long> ids = LongStream.rangeClosed(1, 1200).boxed().toList();
+        when(blogRepository.findAllWithAuthorAndHashtagsByIdIn(anyList())).thenAnswer(invocation -> {
+            List<Long> chunk = invocation.getArgument(0);
+            return chunk.stream().map(id -> {
+                Blog blog = new Blog();
+                blog.setId(id);
+                blog.setAuthor(first.getAuthor());
+                return blog;
+            }).toList();
+        });
+
+        List<BlogResponse> responses = assembler.toResponsesByIds(ids);
+
+        assertEquals(1200, responses.size());
+        assertEquals(1L, responses.get(0).getId());
+        assertEquals(1200L, responses.get(1199).getId());
+        verify(blogRepository).findAllWithAuthorAndHashtagsByIdIn(ids.subList(0, 500));
+        verify(blogRepository).findAllWithAuthorAndHashtagsByIdIn(ids.subList(500, 1000));
+        verify(blogRepository).findAllWithAuthorAndHashtagsByIdIn(ids.subList(1000, 1200));
+        verifyNoMoreInteractions(blogRepository);
+    }
+
+    @Test
+    void toResponsesByIds_shouldNotQueryForEmptyPage() {
+        assertTrue(assembler.toResponsesByIds(List.of()).isEmpty());
+        verifyNoInteractions(blogRepository);
+    }
+}
@@ -0,0 +1,141 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.dto.BlogResponse;
+import com.pingpost.pingpostBackend.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlogResponseCacheTest {
+    private SimpleMeterRegistry meterRegistry;
+    private BlogResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new BlogResponseCache(meterRegistry, 100, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_shouldLoadOnceAndServeHits() {
+        AtomicInteger loads = new AtomicInteger();
+
+        BlogResponse first = cache.get(1L, id -> response(id, loads));
+        BlogResponse second = cache.get(1L, id -> response(id, loads));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "blogResponses").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "blogResponses").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void get_shouldCoalesceConcurrentMissesOnTheSameKey() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<BlogResponse>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get(1L, id -> {
+                loading.countDown();
+                await(release);
+                return response(id, loads);
+            })));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> cache.get(1L, id -> response(id, loads))));
+            }
+            release.countDown();
+            for (Future<BlogResponse> result : results) {
+                assertEquals(1L, result.get(5, TimeUnit.SECONDS).getId());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_shouldNotCacheMissingBlogs() {
+        assertThrows(ResourceNotFoundException.class, () -> cache.get(1L, id -> {
+            throw new ResourceNotFoundException("Blog not found");
+        }));
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> response(id, loads));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void getAll_shouldLoadOnlyMissesInOneCallAndKeepTheRequestedOrder() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(2L, id -> response(id, loads));
+        List<List<Long>> batches = new ArrayList<>();
+
+        // Blog 4 is gone, so the loader leaves it out
+        List<BlogResponse> responses = cache.getAll(List.of(3L, 2L, 4L, 1L), missing -> {
+            batches.add(missing);
+            return missing.stream().filter(id -> id != 4L).map(id -> response(id, loads)).toList();
+        });
+
+        assertEquals(List.of(3L, 2L, 1L), responses.stream().map(BlogResponse::getId).toList());
+        assertEquals(1, batches.size());
+        assertEquals(Set.of(1L, 3L, 4L), Set.copyOf(batches.get(0)));
+        cache.get(4L, id -> response(id, loads));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void evict_shouldDropEntryAgainAfterCommit() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> response(id, loads));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict(1L);
+        // A concurrent reader repopulates the entry before the writer commits
+        cache.get(1L, id -> response(id, loads));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.get(1L, id -> response(id, loads));
+
+        assertEquals(3, loads.get());
+    }
+
+    private static BlogResponse response(Long id, AtomicInteger loads) {
+        loads.incrementAndGet();
+        BlogResponse response = new BlogResponse();
+        response.setId(id);
+        return response;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.entity.Blog;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlogSearchIndexTest {
+    private BlogSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new BlogSearchIndex(new ByteBuffersDirectory());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void search_shouldRankAndHighlightMatches() {
+        index.indexAll(List.of(
+                blog(1L, "Weekend baking", "Sourdough needs patience", Set.of("bread")),
+                blog(2L, "Sourdough starter guide", "Feed the sourdough starter daily", Set.of("sourdough")),
+                blog(3L, "Cycling", "Long rides along the coast", Set.of())));
+        index.refresh();
+
+        BlogSearchIndex.Result result = index.search("sourdough", 0, 10);
+
+        assertEquals(2, result.totalHits());
+        assertEquals(List.of(2L, 1L), result.hits().stream().map(BlogSearchIndex.Hit::blogId).toList());
+        assertTrue(result.hits().get(1).highlight().contains("<b>Sourdough</b>"));
+    }
+
+    @Test
+    void search_shouldTreatOperatorsAsPlainText() {
+        index.indexAll(List.of(blog(1L, "C++ tips", "Templates and (more) templates", Set.of())));
+        index.refresh();
+
+        assertEquals(1, index.search("templates AND (more", 0, 10).totalHits());
+        assertEquals(0, index.search("  ", 0, 10).totalHits());
+    }
+
+    @Test
+    void search_shouldPageThroughHits() {
+        for (long id = 1; id <= 5; id++) index.indexAll(List.of(blog(id, "Post " + id, "shared words", Set.of())));
+        index.refresh();
+
+        BlogSearchIndex.Result second = index.search("shared", 1, 2);
+
+        assertEquals(5, second.totalHits());
+        assertEquals(2, second.hits().size());
+        assertEquals(1, index.search("shared", 2, 2).hits().size());
+    }
+
+    @Test
+    void indexAndDelete_outsideTransaction_shouldApplyImmediately() {
+        Blog blog = blog(7L, "Draft", "original text", Set.of());
+        index.index(blog);
+        blog.setContent("rewritten text");
+        index.index(blog);
+        index.refresh();
+        assertEquals(0, index.search("original", 0, 10).totalHits());
+        assertEquals(1, index.search("rewritten", 0, 10).totalHits());
+
+        index.delete(7L);
+        index.refresh();
+        assertEquals(0, index.search("rewritten", 0, 10).totalHits());
+    }
+
+    @Test
+    void checkpointRebuild_shouldBeReadBackAsRebuildState() {
+        assertTrue(index.rebuildState().isEmpty());
+
+        index.checkpointRebuild(Map.of(BlogSearchIndex.REBUILD_NEXT_ID, "501"));
+
+        assertEquals("501", index.rebuildState().get(BlogSearchIndex.REBUILD_NEXT_ID));
+    }
+
+    @Test
+    void commit_shouldRecordNewestIndexedBlogAsSyncMark() {
+        assertTrue(index.syncMark().isEmpty());
+        LocalDateTime edited = LocalDateTime.of(2026, 3, 1, 12, 0);
+        Blog older = blog(9L, "Older", "edited later", Set.of());
+        older.setUpdatedAt(edited);
+        Blog newer = blog(4L, "Newer", "untouched", Set.of());
+        newer.setUpdatedAt(edited.minusDays(1));
+        index.indexAll(List.of(older, newer));
+
+        index.commit();
+
+        assertEquals(Optional.of(new BlogSearchIndex.SyncMark(edited, 9L)), index.syncMark());
+    }
+
+    @Test
+    void checkpointRebuild_shouldKeepSyncMark() {
+        index.indexAll(List.of(blog(3L, "Post", "text", Set.of())));
+        index.checkpointRebuild(Map.of(BlogSearchIndex.REBUILD_COMPLETE, "true"));
+
+        assertEquals("true", index.rebuildState().get(BlogSearchIndex.REBUILD_COMPLETE));
+        assertEquals(3L, index.syncMark().orElseThrow().id());
+    }
+
+    @Test
+    void indexedIds_shouldListLiveDocumentsOnly() {
+        index.indexAll(List.of(blog(1L, "One", "a", Set.of()), blog(2L, "Two", "b", Set.of()), blog(3L, "Three", "c", Set.of())));
+        index.commit();
+        index.delete(2L);
+
+        Roaring64Bitmap ids = index.indexedIds();
+
+        assertArrayEquals(new long[]{1L, 3L}, ids.toArray());
+    }
+
+    private static Blog blog(Long id, String title, String content, Set<String> hashtags) {
+        Blog blog = new Blog();
+        blog.setId(id);
+        blog.setTitle(title);
+        blog.setContent(content);
+        blog.setHashtags(hashtags);
+        return blog;
+    }
+}
@@ -0,0 +1,111 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.entity.Blog;
+import com.pingpost.pingpostBackend.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class BlogSearchReindexerTest {
+    @Mock
+    private BlogRepository blogRepository;
+    @Mock
+    private BlogSearchIndex searchIndex;
+
+    private BlogSearchReindexer reindexer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        reindexer = new BlogSearchReindexer(blogRepository, searchIndex, new SyncTaskExecutor(), 10, 2);
+        when(blogRepository.findMaxId()).thenReturn(35L);
+        when(blogRepository.findAllWithAuthorAndHashtagsByIdBetween(anyLong(), anyLong())).thenReturn(List.of(new Blog()));
+    }
+
+    @Test
+    void rebuildIfIncomplete_shouldIndexAllRangesAndCheckpointEachRound() {
+        when(searchIndex.rebuildState()).thenReturn(Map.of());
+
+        reindexer.rebuildIfIncomplete();
+
+        for (long from = 1; from <= 31; from += 10) {
+            verify(blogRepository).findAllWithAuthorAndHashtagsByIdBetween(from, from + 9);
+        }
+        verify(searchIndex, times(4)).indexAll(anyList());
+        verify(searchIndex).checkpointRebuild(Map.of(BlogSearchIndex.REBUILD_NEXT_ID, "21"));
+        verify(searchIndex).checkpointRebuild(Map.of(BlogSearchIndex.REBUILD_NEXT_ID, "41"));
+        verify(searchIndex).checkpointRebuild(Map.of(BlogSearchIndex.REBUILD_COMPLETE, "true"));
+    }
+
+    @Test
+    void rebuildIfIncomplete_shouldResumeFromCheckpoint() {
+        when(searchIndex.rebuildState()).thenReturn(Map.of(BlogSearchIndex.REBUILD_NEXT_ID, "21"));
+
+        reindexer.rebuildIfIncomplete();
+
+        verify(blogRepository, never()).findAllWithAuthorAndHashtagsByIdBetween(1L, 10L);
+        verify(blogRepository).findAllWithAuthorAndHashtagsByIdBetween(21L, 30L);
+        verify(blogRepository).findAllWithAuthorAndHashtagsByIdBetween(31L, 40L);
+    }
+
+    @Test
+    void rebuildIfIncomplete_shouldSkipCompletedIndex() {
+        when(searchIndex.rebuildState()).thenReturn(Map.of(BlogSearchIndex.REBUILD_COMPLETE, "true"));
+
+        reindexer.rebuildIfIncomplete();
+
+        verifyNoInteractions(blogRepository);
+    }
+
+    @Test
+    void rebuildIfIncomplete_shouldCatchUpOnChangesSinceTheLastCommit() {
+        LocalDateTime committed = LocalDateTime.of(2026, 3, 1, 12, 0);
+        when(searchIndex.rebuildState()).thenReturn(Map.of(BlogSearchIndex.REBUILD_COMPLETE, "true"));
+        when(searchIndex.syncMark()).thenReturn(Optional.of(new BlogSearchIndex.SyncMark(committed, 30L)));
+        when(searchIndex.indexedIds()).thenReturn(new Roaring64Bitmap());
+        when(blogRepository.findIdsChangedSince(any(), anyLong(), anyLong())).thenReturn(List.of(12L, 31L, 35L));
+
+        reindexer.rebuildIfIncomplete();
+
+        verify(blogRepository).findIdsChangedSince(committed.minus(BlogSearchReindexer.CATCH_UP_SLACK), 30L, 35L);
+        verify(blogRepository).findAllWithAuthorAndHashtagsByIdIn(List.of(12L, 31L, 35L));
+        verify(blogRepository, never()).findAllWithAuthorAndHashtagsByIdBetween(anyLong(), anyLong());
+    }
+
+    @Test
+    void rebuildIfIncomplete_shouldOnlyCatchUpOnRangesAlreadyRebuilt() {
+        when(searchIndex.rebuildState()).thenReturn(Map.of(BlogSearchIndex.REBUILD_NEXT_ID, "21"));
+        when(searchIndex.syncMark()).thenReturn(Optional.of(new BlogSearchIndex.SyncMark(null, 20L)));
+        when(searchIndex.indexedIds()).thenReturn(new Roaring64Bitmap());
+
+        reindexer.rebuildIfIncomplete();
+
+        verify(blogRepository).findIdsChangedSince(any(), eq(20L), eq(20L));
+        verify(blogRepository).findAllWithAuthorAndHashtagsByIdBetween(21L, 30L);
+    }
+
+    @Test
+    void removeDeleted_shouldDeleteIndexedBlogsMissingFromTheTable() {
+        when(searchIndex.indexedIds()).thenReturn(Roaring64Bitmap.bitmapOf(1L, 2L, 3L, 5L, 8L));
+        when(blogRepository.findIdsAfter(0L, Limit.of(10))).thenReturn(List.of(1L, 3L, 4L, 5L, 6L, 7L, 9L, 10L, 11L, 12L));
+        when(blogRepository.findIdsAfter(12L, Limit.of(10))).thenReturn(List.of(13L));
+
+        reindexer.removeDeleted();
+
+        verify(searchIndex).delete(2L);
+        verify(searchIndex).delete(8L);
+        verify(searchIndex, times(2)).delete(anyLong());
+    }
+}
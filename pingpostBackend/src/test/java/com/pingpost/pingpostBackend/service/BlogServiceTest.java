@@ -2,35 +2,57 @@ package com.pingpost.pingpostBackend.service;
 
 import com.pingpost.pingpostBackend.dto.BlogRequest;
 import com.pingpost.pingpostBackend.dto.BlogResponse;
+import com.pingpost.pingpostBackend.dto.BlogSearchResult;
+import com.pingpost.pingpostBackend.dto.CursorPaginatedResponse;
+import com.pingpost.pingpostBackend.dto.PaginatedResponse;
 import com.pingpost.pingpostBackend.entity.Blog;
 import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.exception.ResourceNotFoundException;
 import com.pingpost.pingpostBackend.repository.BlogRepository;
 import com.pingpost.pingpostBackend.repository.UserRepository;
-import com.pingpost.pingpostBackend.repository.LikeRepository;
-import com.pingpost.pingpostBackend.repository.CommentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class BlogServiceTest {
     @Mock
     private BlogRepository blogRepository;
     @Mock
+    private BlogResponseCache blogResponseCache;
+    @Mock
+    private HashtagService hashtagService;
+    @Mock
+    private HashtagIndex hashtagIndex;
+    @Mock
+    private TrendingHashtags trendingHashtags;
+    @Mock
+    private BlogSearchIndex blogSearchIndex;
+    @Mock
     private UserRepository userRepository;
     @Mock
-    private LikeRepository likeRepository;
+    private BlogResponseAssembler blogResponseAssembler;
     @Mock
-    private CommentRepository commentRepository;
+    private FeedService feedService;
 
     @InjectMocks
     private BlogService blogService;
@@ -53,10 +75,15 @@ class BlogServiceTest {
         blog.setTitle(request.getTitle());
         blog.setContent(request.getContent());
         blog.setAuthor(user);
+        blog.setHashtags(Set.of("tag"));
         when(blogRepository.save(any(Blog.class))).thenReturn(blog);
+        when(blogResponseAssembler.toResponse(blog)).thenReturn(toResponse(blog));
         BlogResponse response = blogService.publishBlog(request, "testuser");
         assertEquals("Test Title", response.getTitle());
         assertEquals("Test Content #tag", response.getContent());
+        verify(feedService, times(1)).fanOut(blog);
+        verify(hashtagService, times(1)).recordChange(Set.of(), Set.of("tag"));
+        verify(blogSearchIndex, times(1)).index(blog);
     }
 
     @Test
@@ -66,6 +93,56 @@ class BlogServiceTest {
         assertThrows(UsernameNotFoundException.class, () -> blogService.publishBlog(request, "nouser"));
     }
 
+    @Test
+    void getBlogById_shouldAssembleThroughCache() {
+        BlogResponse response = new BlogResponse();
+        response.setId(1L);
+        when(blogResponseCache.get(eq(1L), any())).thenAnswer(invocation -> {
+            Function<Long, BlogResponse> loader = invocation.getArgument(1);
+            return loader.apply(1L);
+        });
+        when(blogResponseAssembler.toResponsesByIds(List.of(1L))).thenReturn(List.of(response));
+
+        assertSame(response, blogService.getBlogById(1L));
+        verify(blogRepository, never()).findById(any());
+    }
+
+    @Test
+    void getBlogById_shouldThrowIfBlogMissing() {
+        when(blogResponseCache.get(eq(2L), any())).thenAnswer(invocation -> {
+            Function<Long, BlogResponse> loader = invocation.getArgument(1);
+            return loader.apply(2L);
+        });
+        when(blogResponseAssembler.toResponsesByIds(List.of(2L))).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> blogService.getBlogById(2L));
+    }
+
+    @Test
+    void getBlogsByUser_shouldSeekByAuthorId() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+        when(userRepository.findIdByUsername("testuser")).thenReturn(Optional.of(1L));
+        when(blogRepository.findIdsByAuthorIdBefore(1L, createdAt, 9L, Limit.of(3))).thenReturn(List.of(8L, 7L));
+        when(blogResponseAssembler.toResponsesByIds(List.of(8L, 7L))).thenReturn(List.of(new BlogResponse(), new BlogResponse()));
+
+        CursorPaginatedResponse<BlogResponse> page = blogService.getBlogsByUser("testuser", new BlogCursor(createdAt, 9L).encode(), 2);
+
+        assertEquals(2, page.getContent().size());
+        assertFalse(page.isHasNext());
+        verify(blogRepository, never()).findAll();
+    }
+
+    @Test
+    void getBlogsByUser_shouldReturnEmptyPageForUnknownUser() {
+        when(userRepository.findIdByUsername("ghost")).thenReturn(Optional.empty());
+        when(blogResponseAssembler.toResponsesByIds(List.of())).thenReturn(List.of());
+
+        CursorPaginatedResponse<BlogResponse> page = blogService.getBlogsByUser("ghost", null, 10);
+
+        assertTrue(page.getContent().isEmpty());
+        verify(blogRepository, never()).findIdsByAuthorId(anyLong(), any());
+    }
+
     @Test
     void getAllBlogs_shouldReturnList() {
         Blog blog = new Blog();
@@ -75,11 +152,83 @@ class BlogServiceTest {
         User user = new User();
         user.setUsername("testuser");
         blog.setAuthor(user);
-        when(blogRepository.findAll()).thenReturn(List.of(blog));
-        when(likeRepository.countByBlog(blog)).thenReturn(0L);
-        when(commentRepository.countByBlog(blog)).thenReturn(0L);
+        when(blogRepository.findAllIds()).thenReturn(List.of(1L));
+        when(blogResponseAssembler.toResponsesByIds(List.of(1L))).thenReturn(List.of(toResponse(blog)));
         List<BlogResponse> result = blogService.getAllBlogs();
         assertEquals(1, result.size());
         assertEquals("Blog1", result.get(0).getTitle());
     }
+
+    @Test
+    void getBlogsPaginated_shouldAssembleOnePageOfIds() {
+        Blog blog = new Blog();
+        blog.setId(7L);
+        blog.setTitle("Paged");
+        when(blogRepository.findPageOfIds(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(7L), PageRequest.of(0, 10), 1));
+        when(blogResponseAssembler.toResponsesByIds(List.of(7L))).thenReturn(List.of(toResponse(blog)));
+        PaginatedResponse<BlogResponse> result = blogService.getBlogsPaginated(0, 10);
+        assertEquals(1, result.getContent().size());
+        assertEquals(1, result.getTotalPages());
+        assertEquals("Paged", result.getContent().get(0).getTitle());
+    }
+
+    @Test
+    void getBlogsByCursor_shouldReturnNextCursorWhenMoreRowsExist() {
+        Blog newest = new Blog();
+        newest.setId(3L);
+        newest.setCreatedAt(LocalDateTime.of(2024, 5, 1, 12, 0));
+        when(blogRepository.findFeedIds(Limit.of(2))).thenReturn(List.of(3L, 2L));
+        when(blogResponseAssembler.toResponsesByIds(List.of(3L))).thenReturn(List.of(toResponse(newest)));
+
+        CursorPaginatedResponse<BlogResponse> page = blogService.getBlogsByCursor(null, 1);
+
+        assertTrue(page.isHasNext());
+        assertEquals(1, page.getContent().size());
+        BlogCursor next = BlogCursor.decode(page.getNextCursor());
+        assertEquals(newest.getCreatedAt(), next.createdAt());
+        assertEquals(3L, next.id());
+    }
+
+    @Test
+    void getBlogsByCursor_shouldSeekPastCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        String cursor = new BlogCursor(createdAt, 3L).encode();
+        when(blogRepository.findFeedIdsBefore(createdAt, 3L, Limit.of(11))).thenReturn(List.of(2L));
+        when(blogResponseAssembler.toResponsesByIds(List.of(2L))).thenReturn(List.of(new BlogResponse()));
+
+        CursorPaginatedResponse<BlogResponse> page = blogService.getBlogsByCursor(cursor, 10);
+
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void searchBlogs_shouldKeepIndexOrderAndSkipDeletedBlogs() {
+        when(blogSearchIndex.search("lucene", 0, 10)).thenReturn(new BlogSearchIndex.Result(3, List.of(
+                new BlogSearchIndex.Hit(5L, 2.5f, "<b>lucene</b> tips"),
+                new BlogSearchIndex.Hit(9L, 1.5f, "gone"),
+                new BlogSearchIndex.Hit(2L, 0.5f, "about <b>lucene</b>"))));
+        Blog first = new Blog();
+        first.setId(5L);
+        Blog second = new Blog();
+        second.setId(2L);
+        when(blogResponseAssembler.toResponsesByIds(List.of(5L, 9L, 2L))).thenReturn(List.of(toResponse(first), toResponse(second)));
+
+        PaginatedResponse<BlogSearchResult> page = blogService.searchBlogs("lucene", 0, 10);
+
+        assertEquals(List.of(5L, 2L), page.getContent().stream().map(result -> result.getBlog().getId()).toList());
+        assertEquals("<b>lucene</b> tips", page.getContent().get(0).getHighlight());
+        assertEquals(3, page.getTotalElements());
+        assertEquals(1, page.getTotalPages());
+    }
+
+    private BlogResponse toResponse(Blog blog) {
+        BlogResponse response = new BlogResponse();
+        response.setId(blog.getId());
+        response.setTitle(blog.getTitle());
+        response.setContent(blog.getContent());
+        response.setCreatedAt(blog.getCreatedAt());
+        return response;
+    }
 } 
\ No newline at end of file
@@ -2,18 +2,23 @@ package com.pingpost.pingpostBackend.service;
 
 import com.pingpost.pingpostBackend.dto.CommentRequest;
 import com.pingpost.pingpostBackend.dto.CommentResponse;
+import com.pingpost.pingpostBackend.dto.CursorPaginatedResponse;
 import com.pingpost.pingpostBackend.entity.Blog;
 import com.pingpost.pingpostBackend.entity.Comment;
 import com.pingpost.pingpostBackend.entity.User;
 import com.pingpost.pingpostBackend.exception.ResourceNotFoundException;
 import com.pingpost.pingpostBackend.repository.BlogRepository;
 import com.pingpost.pingpostBackend.repository.CommentRepository;
+import com.pingpost.pingpostBackend.repository.projection.ReplyCount;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +30,8 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private BlogRepository blogRepository;
+    @Mock
+    private BlogResponseCache blogResponseCache;
 
     @InjectMocks
     private CommentService commentService;
@@ -66,6 +73,8 @@ class CommentServiceTest {
         assertEquals("Test comment", response.getContent());
         assertEquals("testuser", response.getAuthorUsername());
         assertEquals(1L, response.getBlogId());
+        verify(blogRepository, times(1)).adjustCommentCount(1L, 1);
+        verify(blogResponseCache, times(1)).evict(1L);
     }
 
     @Test
@@ -78,7 +87,7 @@ class CommentServiceTest {
 
     @Test
     void getComments_shouldReturnList() {
-        when(commentRepository.findByBlogId(1L)).thenReturn(List.of(comment));
+        when(commentRepository.findAllWithAuthorByBlogId(1L)).thenReturn(List.of(comment));
 
         List<CommentResponse> responses = commentService.getComments(1L);
 
@@ -88,7 +97,7 @@ class CommentServiceTest {
 
     @Test
     void updateComment_shouldReturnUpdatedComment() {
-        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+        when(commentRepository.findWithAuthorById(1L)).thenReturn(Optional.of(comment));
         when(commentRepository.save(any(Comment.class))).thenReturn(comment);
 
         CommentRequest updateRequest = new CommentRequest();
@@ -104,7 +113,7 @@ class CommentServiceTest {
         User otherUser = new User();
         otherUser.setId(2L);
         
-        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+        when(commentRepository.findWithAuthorById(1L)).thenReturn(Optional.of(comment));
 
         assertThrows(RuntimeException.class, () -> 
             commentService.updateComment(1L, 1L, request, otherUser));
@@ -117,6 +126,8 @@ class CommentServiceTest {
         commentService.deleteComment(1L, user);
 
         verify(commentRepository, times(1)).delete(comment);
+        verify(blogRepository, times(1)).adjustCommentCount(1L, -1);
+        verify(blogResponseCache, times(1)).evict(1L);
     }
 
     @Test
@@ -129,4 +140,50 @@ class CommentServiceTest {
         assertThrows(RuntimeException.class, () -> 
             commentService.deleteComment(1L, otherUser));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void addComment_shouldAttachReplyToReplyToItsThread() {
+        Comment reply = new Comment();
+        reply.setId(2L);
+        reply.setBlog(blog);
+        reply.setParentId(1L);
+        when(blogRepository.findById(1L)).thenReturn(Optional.of(blog));
+        when(commentRepository.findById(2L)).thenReturn(Optional.of(reply));
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        request.setParentId(2L);
+
+        CommentResponse response = commentService.addComment(1L, request, user);
+
+        assertEquals(1L, response.getParentId());
+    }
+
+    @Test
+    void getThreads_shouldAttachReplyCountsFromOneQuery() {
+        comment.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        Comment second = new Comment();
+        second.setId(3L);
+        second.setAuthor(user);
+        second.setBlog(blog);
+        second.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 5));
+        when(commentRepository.findThreadsWithAuthor(1L, Limit.of(2))).thenReturn(List.of(comment, second));
+        when(commentRepository.countRepliesByParentIdIn(List.of(1L))).thenReturn(List.of(new ReplyCount(1L, 4)));
+
+        CursorPaginatedResponse<CommentResponse> page = commentService.getThreads(1L, null, 1);
+
+        assertEquals(1, page.getContent().size());
+        assertEquals(4, page.getContent().get(0).getReplyCount());
+        assertTrue(page.isHasNext());
+        assertEquals(new BlogCursor(comment.getCreatedAt(), 1L), BlogCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void deleteComment_shouldDeleteRepliesWithThread() {
+        when(commentRepository.findById(1L)).thenReturn(Optional.of(comment));
+        when(commentRepository.deleteByParentId(1L)).thenReturn(3);
+
+        commentService.deleteComment(1L, user);
+
+        verify(commentRepository, times(1)).delete(comment);
+        verify(blogRepository, times(1)).adjustCommentCount(1L, -4);
+    }
+}
@@ -0,0 +1,152 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.dto.BlogResponse;
+import com.pingpost.pingpostBackend.dto.CursorPaginatedResponse;
+import com.pingpost.pingpostBackend.entity.Blog;
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.BlogRepository;
+import com.pingpost.pingpostBackend.repository.FollowRepository;
+import com.pingpost.pingpostBackend.repository.TimelineRepository;
+import com.pingpost.pingpostBackend.repository.UserRepository;
+import com.pingpost.pingpostBackend.repository.projection.FeedItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class FeedServiceTest {
+    @Mock
+    private TimelineRepository timelineRepository;
+    @Mock
+    private BlogRepository blogRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private FollowRepository followRepository;
+    @Mock
+    private BlogResponseAssembler blogResponseAssembler;
+
+    private FeedService feedService;
+    private User reader;
+    private User author;
+    private final LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        feedService = new FeedService(timelineRepository, blogRepository, userRepository, followRepository, blogResponseAssembler, 2, 30);
+
+        reader = new User();
+        reader.setId(1L);
+        reader.setUsername("reader");
+
+        author = new User();
+        author.setId(2L);
+        author.setUsername("author");
+
+        when(blogResponseAssembler.toResponsesByIds(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> {
+                BlogResponse response = new BlogResponse();
+                response.setId(id);
+                return response;
+            }).toList();
+        });
+    }
+
+    @Test
+    void getFeed_shouldMergeFannedOutAndHighFanoutBlogsNewestFirst() {
+        when(timelineRepository.findFeedItems(1L, Limit.of(3))).thenReturn(List.of(
+                new FeedItem(10L, now.minusMinutes(1)),
+                new FeedItem(8L, now.minusMinutes(5))));
+        when(userRepository.findFollowedHighFanoutAuthorIds(1L)).thenReturn(List.of(3L));
+        when(blogRepository.findFeedItemsByAuthorIn(List.of(3L), Limit.of(3))).thenReturn(List.of(
+                new FeedItem(11L, now),
+                new FeedItem(10L, now.minusMinutes(1)),
+                new FeedItem(9L, now.minusMinutes(3))));
+
+        CursorPaginatedResponse<BlogResponse> feed = feedService.getFeed(reader, null, 2);
+
+        assertEquals(List.of(11L, 10L), feed.getContent().stream().map(BlogResponse::getId).toList());
+        assertTrue(feed.isHasNext());
+        BlogCursor next = BlogCursor.decode(feed.getNextCursor());
+        assertEquals(10L, next.id());
+        assertEquals(now.minusMinutes(1), next.createdAt());
+    }
+
+    @Test
+    void getFeed_shouldSeekBothSourcesFromCursor() {
+        String cursor = new BlogCursor(now, 10L).encode();
+        when(timelineRepository.findFeedItemsBefore(1L, now, 10L, Limit.of(11))).thenReturn(List.of(
+                new FeedItem(8L, now.minusMinutes(5))));
+        when(userRepository.findFollowedHighFanoutAuthorIds(1L)).thenReturn(List.of());
+
+        CursorPaginatedResponse<BlogResponse> feed = feedService.getFeed(reader, cursor, 10);
+
+        assertEquals(List.of(8L), feed.getContent().stream().map(BlogResponse::getId).toList());
+        assertFalse(feed.isHasNext());
+        assertNull(feed.getNextCursor());
+        verifyNoInteractions(blogRepository);
+    }
+
+    @Test
+    void fanOut_shouldWriteToFollowerTimelinesForNormalAuthors() {
+        Blog blog = blog(20L);
+        when(followRepository.countByIdUserId(2L)).thenReturn(2L);
+
+        feedService.fanOut(blog);
+
+        verify(timelineRepository).deliverToAuthor(2L, 20L, now);
+        verify(timelineRepository).fanOutToFollowers(20L, 2L, now);
+        verify(userRepository, never()).markHighFanout(anyLong());
+    }
+
+    @Test
+    void fanOut_shouldSwitchAuthorsAboveThresholdToReadPath() {
+        Blog blog = blog(21L);
+        when(followRepository.countByIdUserId(2L)).thenReturn(3L);
+
+        feedService.fanOut(blog);
+
+        verify(userRepository).markHighFanout(2L);
+        verify(timelineRepository).deliverToAuthor(2L, 21L, now);
+        verify(timelineRepository, never()).fanOutToFollowers(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void onFollow_shouldNotBackfillHighFanoutAuthors() {
+        author.setHighFanout(true);
+        when(userRepository.findById(2L)).thenReturn(java.util.Optional.of(author));
+
+        feedService.onFollowChanged(new FollowChangedEvent(1L, 2L, true));
+
+        verify(timelineRepository, never()).backfillFromAuthor(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void onFollowChanged_shouldBackfillOnFollowAndRemoveOnUnfollow() {
+        when(userRepository.findById(2L)).thenReturn(java.util.Optional.of(author));
+
+        feedService.onFollowChanged(new FollowChangedEvent(1L, 2L, true));
+        feedService.onFollowChanged(new FollowChangedEvent(1L, 2L, false));
+
+        verify(timelineRepository).backfillFromAuthor(eq(1L), eq(2L), any());
+        verify(timelineRepository).deleteByUserIdAndAuthorId(1L, 2L);
+    }
+
+    private Blog blog(Long id) {
+        Blog blog = new Blog();
+        blog.setId(id);
+        blog.setAuthor(author);
+        blog.setCreatedAt(now);
+        return blog;
+    }
+}
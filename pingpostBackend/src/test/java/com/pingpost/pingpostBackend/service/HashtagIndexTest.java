@@ -0,0 +1,82 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.repository.HashtagRepository;
+import com.pingpost.pingpostBackend.repository.projection.HashtagUsage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HashtagIndexTest {
+    @Mock
+    private HashtagRepository hashtagRepository;
+
+    private HashtagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        index = new HashtagIndex(hashtagRepository);
+        when(hashtagRepository.findAllInUse()).thenReturn(List.of(
+                new HashtagUsage("java", 40),
+                new HashtagUsage("javascript", 90),
+                new HashtagUsage("jazz", 5),
+                new HashtagUsage("javafx", 40),
+                new HashtagUsage("kotlin", 12)));
+        index.refresh();
+    }
+
+    @Test
+    void suggest_shouldRankByPopularityWithinPrefix() {
+        assertEquals(List.of("javascript", "java", "javafx"), index.suggest("jav", 10));
+        assertEquals(List.of("javascript", "java"), index.suggest("jav", 2));
+    }
+
+    @Test
+    void suggest_shouldServeShortPrefixesFromPrecomputedLists() {
+        assertEquals(List.of("javascript", "java", "javafx", "jazz"), index.suggest("j", 10));
+        assertEquals(List.of("javascript"), index.suggest("ja", 1));
+    }
+
+    @Test
+    void suggest_shouldNormalizeInput() {
+        assertEquals(List.of("javascript", "java", "javafx"), index.suggest("#JAVA", 10));
+        assertEquals(List.of("kotlin"), index.suggest(" Kot", 10));
+    }
+
+    @Test
+    void suggest_shouldReturnNothingForBlankOrUnknownPrefix() {
+        assertTrue(index.suggest("", 10).isEmpty());
+        assertTrue(index.suggest("#", 10).isEmpty());
+        assertTrue(index.suggest("rust", 10).isEmpty());
+        assertTrue(index.suggest("zz", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_shouldCapLimit() {
+        List<HashtagUsage> many = new ArrayList<>();
+        for (int i = 0; i < 200; i++) many.add(new HashtagUsage("tag" + i, i));
+        when(hashtagRepository.findAllInUse()).thenReturn(many);
+        index.refresh();
+
+        List<String> top = index.suggest("tag", 500);
+
+        assertEquals(HashtagIndex.MAX_SUGGESTIONS, top.size());
+        assertEquals("tag199", top.get(0));
+        assertEquals(HashtagIndex.MAX_SUGGESTIONS, index.suggest("t", 500).size());
+    }
+
+    @Test
+    void suggest_shouldNotQueryDatabase() {
+        index.suggest("java", 5);
+        index.suggest("j", 5);
+
+        verify(hashtagRepository, times(1)).findAllInUse();
+    }
+}
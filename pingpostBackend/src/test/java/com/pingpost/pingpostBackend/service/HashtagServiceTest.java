@@ -0,0 +1,64 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.repository.HashtagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class HashtagServiceTest {
+    @Mock
+    private HashtagRepository hashtagRepository;
+    @Mock
+    private HashtagIndex hashtagIndex;
+
+    @InjectMocks
+    private HashtagService hashtagService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void extract_shouldReturnDistinctLowercaseHashtags() {
+        assertEquals(Set.of("java", "spring_boot"), HashtagService.extract("#Java and #spring_boot, more #JAVA #"));
+        assertTrue(HashtagService.extract(null).isEmpty());
+    }
+
+    @Test
+    void recordChange_shouldAdjustOnlyTheDifference() {
+        hashtagService.recordChange(Set.of("java", "jpa"), Set.of("java", "spring"));
+
+        verify(hashtagRepository).adjustUsage("jpa", -1);
+        verify(hashtagRepository).incrementOrInsert("spring");
+        verify(hashtagRepository, never()).adjustUsage(eq("java"), anyLong());
+        verify(hashtagRepository, never()).incrementOrInsert("java");
+        verify(hashtagRepository, never()).save(any());
+    }
+
+    @Test
+    void seedAndLoadIndex_shouldSeedEmptyTableFromBlogs() {
+        when(hashtagRepository.count()).thenReturn(0L);
+
+        hashtagService.seedAndLoadIndex();
+
+        verify(hashtagRepository).insertUsageFromBlogs();
+        verify(hashtagIndex).refresh();
+    }
+
+    @Test
+    void normalize_shouldStripHashAndLowercase() {
+        assertEquals("java", HashtagService.normalize(" #Java "));
+        assertEquals("", HashtagService.normalize(null));
+    }
+}
@@ -1,5 +1,6 @@
 package com.pingpost.pingpostBackend.service;
 
+import com.pingpost.pingpostBackend.dto.BlogResponse;
 import com.pingpost.pingpostBackend.entity.Blog;
 import com.pingpost.pingpostBackend.entity.Like;
 import com.pingpost.pingpostBackend.entity.User;
@@ -12,6 +13,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,6 +24,14 @@ class LikeServiceTest {
     private LikeRepository likeRepository;
     @Mock
     private BlogRepository blogRepository;
+    @Mock
+    private BlogResponseCache blogResponseCache;
+    @Mock
+    private TrendingHashtags trendingHashtags;
+    @Mock
+    private LikeWriteBuffer likeWriteBuffer;
+    @Mock
+    private LikedBlogSets likedBlogSets;
 
     @InjectMocks
     private LikeService likeService;
@@ -57,22 +67,38 @@ class LikeServiceTest {
     @Test
     void likeBlog_shouldCreateLike() {
         when(blogRepository.findById(1L)).thenReturn(Optional.of(blog));
-        when(likeRepository.existsByUserAndBlog(user, blog)).thenReturn(false);
-        when(likeRepository.save(any(Like.class))).thenReturn(like);
+        when(likeRepository.insertIgnore(eq(2L), eq(1L), any())).thenReturn(1);
 
         likeService.likeBlog(1L, user);
 
-        verify(likeRepository, times(1)).save(any(Like.class));
+        verify(likeRepository, times(1)).insertIgnore(eq(2L), eq(1L), any());
+        verify(blogRepository, times(1)).adjustLikeCount(1L, 1);
+        verify(likedBlogSets, times(1)).add(2L, 1L);
+        verify(blogResponseCache, times(1)).evict(1L);
+        verify(trendingHashtags, times(1)).recordLike(any());
     }
 
     @Test
-    void likeBlog_shouldNotCreateDuplicateLike() {
+    void likeBlog_shouldNotCountLikeIgnoredByUniqueConstraint() {
         when(blogRepository.findById(1L)).thenReturn(Optional.of(blog));
-        when(likeRepository.existsByUserAndBlog(user, blog)).thenReturn(true);
+        when(likeRepository.insertIgnore(eq(2L), eq(1L), any())).thenReturn(0);
 
         likeService.likeBlog(1L, user);
 
-        verify(likeRepository, never()).save(any(Like.class));
+        verify(likedBlogSets, times(1)).add(2L, 1L);
+        verify(blogRepository, never()).adjustLikeCount(anyLong(), anyInt());
+        verify(trendingHashtags, never()).recordLike(any());
+    }
+
+    @Test
+    void likeBlog_shouldNotCreateDuplicateLike() {
+        when(likedBlogSets.contains(user, 1L)).thenReturn(true);
+
+        likeService.likeBlog(1L, user);
+
+        verify(blogRepository, never()).findById(anyLong());
+        verify(likeRepository, never()).insertIgnore(anyLong(), anyLong(), any());
+        verify(blogRepository, never()).adjustLikeCount(anyLong(), anyInt());
     }
 
     @Test
@@ -93,27 +119,57 @@ class LikeServiceTest {
 
     @Test
     void unlikeBlog_shouldDeleteLike() {
+        when(likedBlogSets.contains(user, 1L)).thenReturn(true);
         when(blogRepository.findById(1L)).thenReturn(Optional.of(blog));
+        when(likeRepository.deleteByUserAndBlog(user, blog)).thenReturn(1L);
 
         likeService.unlikeBlog(1L, user);
 
         verify(likeRepository, times(1)).deleteByUserAndBlog(user, blog);
+        verify(blogRepository, times(1)).adjustLikeCount(1L, -1);
+        verify(blogResponseCache, times(1)).evict(1L);
+        verify(likedBlogSets, times(1)).remove(2L, 1L);
     }
 
     @Test
-    void getLikeCount_shouldReturnCount() {
+    void unlikeBlog_shouldNotDecrementWhenNothingDeleted() {
+        when(likedBlogSets.contains(user, 1L)).thenReturn(true);
         when(blogRepository.findById(1L)).thenReturn(Optional.of(blog));
-        when(likeRepository.countByBlog(blog)).thenReturn(5L);
+        when(likeRepository.deleteByUserAndBlog(user, blog)).thenReturn(0L);
+
+        likeService.unlikeBlog(1L, user);
+
+        verify(blogRepository, never()).adjustLikeCount(anyLong(), anyInt());
+    }
+
+    @Test
+    void unlikeBlog_shouldSkipDatabaseWhenNotLiked() {
+        likeService.unlikeBlog(1L, user);
+
+        verify(blogRepository, never()).findById(anyLong());
+        verify(likeRepository, never()).deleteByUserAndBlog(any(), any());
+    }
+
+    @Test
+    void getLikeCount_shouldReturnCount() {
+        when(blogRepository.findLikeCountById(1L)).thenReturn(Optional.of(5));
 
         long count = likeService.getLikeCount(1L);
 
         assertEquals(5L, count);
+        verify(likeRepository, never()).countByBlog(any());
+    }
+
+    @Test
+    void getLikeCount_shouldThrowWhenBlogNotFound() {
+        when(blogRepository.findLikeCountById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> likeService.getLikeCount(1L));
     }
 
     @Test
     void isBlogLikedByUser_shouldReturnTrue() {
-        when(blogRepository.findById(1L)).thenReturn(Optional.of(blog));
-        when(likeRepository.existsByUserAndBlog(user, blog)).thenReturn(true);
+        when(likedBlogSets.contains(user, 1L)).thenReturn(true);
 
         boolean isLiked = likeService.isBlogLikedByUser(1L, user);
 
@@ -122,11 +178,76 @@ class LikeServiceTest {
 
     @Test
     void isBlogLikedByUser_shouldReturnFalse() {
-        when(blogRepository.findById(1L)).thenReturn(Optional.of(blog));
-        when(likeRepository.existsByUserAndBlog(user, blog)).thenReturn(false);
+        when(likedBlogSets.contains(user, 1L)).thenReturn(false);
 
         boolean isLiked = likeService.isBlogLikedByUser(1L, user);
 
         assertFalse(isLiked);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void likeBlog_shouldBufferWhenWriteBehindEnabled() {
+        when(likeWriteBuffer.isEnabled()).thenReturn(true);
+        when(blogRepository.findAuthorIdById(1L)).thenReturn(Optional.of(1L));
+
+        likeService.likeBlog(1L, user);
+
+        verify(likeWriteBuffer, times(1)).like(2L, 1L);
+        verify(likeRepository, never()).insertIgnore(anyLong(), anyLong(), any());
+        verify(blogRepository, never()).adjustLikeCount(anyLong(), anyInt());
+    }
+
+    @Test
+    void likeBlog_shouldRejectOwnBlogWhenWriteBehindEnabled() {
+        when(likeWriteBuffer.isEnabled()).thenReturn(true);
+        when(blogRepository.findAuthorIdById(1L)).thenReturn(Optional.of(1L));
+
+        assertThrows(IllegalArgumentException.class, () -> likeService.likeBlog(1L, blogAuthor));
+        verify(likeWriteBuffer, never()).like(anyLong(), anyLong());
+    }
+
+    @Test
+    void isBlogLikedByUser_shouldPreferBufferedState() {
+        when(likeWriteBuffer.isEnabled()).thenReturn(true);
+        when(likeWriteBuffer.pendingState(2L, 1L)).thenReturn(false);
+
+        assertFalse(likeService.isBlogLikedByUser(1L, user));
+        verify(likedBlogSets, never()).contains(any(), anyLong());
+    }
+
+    @Test
+    void getLikedBlogIds_shouldKeepRequestOrderAndApplyBufferedState() {
+        when(likeWriteBuffer.isEnabled()).thenReturn(true);
+        when(likeRepository.findLikedBlogIds(2L, List.of(3L, 1L, 2L))).thenReturn(List.of(1L, 3L));
+        when(likeWriteBuffer.pendingState(2L, 1L)).thenReturn(null);
+        when(likeWriteBuffer.pendingState(2L, 3L)).thenReturn(false);
+        when(likeWriteBuffer.pendingState(2L, 2L)).thenReturn(true);
+
+        assertEquals(List.of(1L, 2L), likeService.getLikedBlogIds(List.of(3L, 1L, 2L, 1L), user));
+    }
+
+    @Test
+    void markLikedByMe_shouldSetFlagForEveryBlog() {
+        BlogResponse liked = new BlogResponse();
+        liked.setId(1L);
+        BlogResponse notLiked = new BlogResponse();
+        notLiked.setId(2L);
+        when(likeRepository.findLikedBlogIds(2L, List.of(1L, 2L))).thenReturn(List.of(1L));
+
+        likeService.markLikedByMe(List.of(liked, notLiked), user);
+
+        assertTrue(liked.getLikedByMe());
+        assertFalse(notLiked.getLikedByMe());
+    }
+
+    @Test
+    void markLikedByMe_shouldSkipAnonymousViewers() {
+        BlogResponse response = new BlogResponse();
+        response.setId(1L);
+
+        likeService.markLikedByMe(List.of(response), null);
+
+        assertNull(response.getLikedByMe());
+        verify(likeRepository, never()).findLikedBlogIds(anyLong(), any());
+    }
+}
@@ -0,0 +1,146 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.entity.Blog;
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.BlogRepository;
+import com.pingpost.pingpostBackend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class LikeWriteBufferTest {
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BlogRepository blogRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @TempDir
+    private Path logDir;
+
+    private JdbcTemplate jdbcTemplate;
+    private User liker;
+    private Blog blog;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        User author = saveUser("buffered-author");
+        liker = saveUser("buffered-liker");
+        blog = new Blog();
+        blog.setTitle("Buffered");
+        blog.setContent("Content");
+        blog.setAuthor(author);
+        blog.setHashtags(Set.of("java"));
+        blogRepository.save(blog);
+        entityManager.flush();
+    }
+
+    @Test
+    void flush_shouldInsertLikesAndAdjustCounter() throws IOException {
+        LikeWriteBuffer buffer = newBuffer();
+
+        buffer.like(liker.getId(), blog.getId());
+        buffer.like(liker.getId(), blog.getId());
+        assertEquals(Boolean.TRUE, buffer.pendingState(liker.getId(), blog.getId()));
+        buffer.flush();
+
+        assertEquals(1, likeRows());
+        assertEquals(1, likeCount());
+        assertNull(buffer.pendingState(liker.getId(), blog.getId()));
+        assertEquals(1, segmentCount());
+    }
+
+    @Test
+    void flush_shouldCollapseLikeFollowedByUnlike() {
+        LikeWriteBuffer buffer = newBuffer();
+
+        buffer.like(liker.getId(), blog.getId());
+        buffer.unlike(liker.getId(), blog.getId());
+        assertEquals(Boolean.FALSE, buffer.pendingState(liker.getId(), blog.getId()));
+        buffer.flush();
+
+        assertEquals(0, likeRows());
+        assertEquals(0, likeCount());
+    }
+
+    @Test
+    void flush_shouldDeleteExistingLikeAndDecrementCounter() {
+        LikeWriteBuffer buffer = newBuffer();
+        buffer.like(liker.getId(), blog.getId());
+        buffer.flush();
+
+        buffer.unlike(liker.getId(), blog.getId());
+        buffer.flush();
+
+        assertEquals(0, likeRows());
+        assertEquals(0, likeCount());
+    }
+
+    @Test
+    void newBuffer_shouldReplayAcknowledgedLikesFromLog() {
+        LikeWriteAheadLog crashed = new LikeWriteAheadLog(logDir);
+        crashed.append(new LikeWriteAheadLog.Entry(liker.getId(), blog.getId(), true, System.currentTimeMillis()));
+        crashed.close();
+
+        LikeWriteBuffer buffer = newBuffer();
+        assertEquals(Boolean.TRUE, buffer.pendingState(liker.getId(), blog.getId()));
+        buffer.flush();
+
+        assertEquals(1, likeRows());
+        assertEquals(1, likeCount());
+    }
+
+    private LikeWriteBuffer newBuffer() {
+        return new LikeWriteBuffer(new LikeWriteAheadLog(logDir), 1000, dataSource, transactionTemplate,
+                mock(BlogResponseCache.class), mock(TrendingHashtags.class), mock(LikedBlogSets.class), new SyncTaskExecutor());
+    }
+
+    private int likeRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM likes WHERE blog_id = ?", Integer.class, blog.getId());
+    }
+
+    private int likeCount() {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM blogs WHERE id = ?", Integer.class, blog.getId());
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(logDir)) {
+            return files.count();
+        }
+    }
+
+    private User saveUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("password");
+        user.setEmail(username + "@example.com");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,61 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.entity.User;
+import com.pingpost.pingpostBackend.repository.LikeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LikedBlogSetsTest {
+    @Mock
+    private LikeRepository likeRepository;
+
+    private LikedBlogSets likedBlogSets;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        likedBlogSets = new LikedBlogSets(likeRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+        user = new User();
+        user.setId(7L);
+    }
+
+    @Test
+    void contains_shouldLoadUsersSetOnce() {
+        when(likeRepository.findBlogIdsByUser(user)).thenReturn(List.of(3L, 5_000_000_000L));
+
+        assertTrue(likedBlogSets.contains(user, 3L));
+        assertTrue(likedBlogSets.contains(user, 5_000_000_000L));
+        assertFalse(likedBlogSets.contains(user, 4L));
+        verify(likeRepository, times(1)).findBlogIdsByUser(user);
+    }
+
+    @Test
+    void addAndRemove_shouldUpdateLoadedSet() {
+        when(likeRepository.findBlogIdsByUser(user)).thenReturn(List.of(3L));
+        likedBlogSets.contains(user, 3L);
+
+        likedBlogSets.add(7L, 4L);
+        likedBlogSets.remove(7L, 3L);
+
+        assertTrue(likedBlogSets.contains(user, 4L));
+        assertFalse(likedBlogSets.contains(user, 3L));
+        verify(likeRepository, times(1)).findBlogIdsByUser(user);
+    }
+
+    @Test
+    void add_shouldNotLoadUncachedUser() {
+        likedBlogSets.add(7L, 4L);
+
+        verifyNoInteractions(likeRepository);
+    }
+}
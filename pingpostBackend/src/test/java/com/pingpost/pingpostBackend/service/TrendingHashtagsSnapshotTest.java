@@ -0,0 +1,65 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.entity.TrendingHashtagBucket;
+import com.pingpost.pingpostBackend.repository.TrendingHashtagBucketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: uses are only counted once their transaction commits, so the test runs without one
+@SpringBootTest
+@ActiveProfiles("test")
+class TrendingHashtagsSnapshotTest {
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final long CURRENT_BUCKET = NOW.toEpochMilli() / 3_600_000L;
+
+    @Autowired
+    private TrendingHashtagBucketRepository bucketRepository;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    @AfterEach
+    void clearBuckets() {
+        bucketRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void snapshot_shouldOverwriteLiveBucketsAndDeleteExpiredOnes() {
+        bucketRepository.saveAndFlush(new TrendingHashtagBucket("stale", CURRENT_BUCKET - 24, 3.0));
+        TrendingHashtags trending = new TrendingHashtags(bucketRepository, new JdbcTemplate(dataSource),
+                transactionTemplate, Clock.fixed(NOW, ZoneOffset.UTC), 60, 24, 60, 0.5);
+
+        trending.recordUse(List.of("java"));
+        trending.snapshot();
+        trending.recordUse(List.of("java", "spring"));
+        trending.snapshot();
+
+        List<TrendingHashtagBucket> rows = bucketRepository.findAll();
+        assertEquals(2, rows.size());
+        assertEquals(2.0, weight(rows, "java"), 1e-9);
+        assertEquals(1.0, weight(rows, "spring"), 1e-9);
+    }
+
+    private static double weight(List<TrendingHashtagBucket> rows, String hashtag) {
+        return rows.stream()
+                .filter(row -> row.getHashtag().equals(hashtag) && row.getBucket() == CURRENT_BUCKET)
+                .findFirst().orElseThrow()
+                .getWeight();
+    }
+}
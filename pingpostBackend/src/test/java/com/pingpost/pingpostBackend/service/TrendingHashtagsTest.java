@@ -0,0 +1,146 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.dto.TrendingHashtag;
+import com.pingpost.pingpostBackend.entity.TrendingHashtagBucket;
+import com.pingpost.pingpostBackend.repository.TrendingHashtagBucketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TrendingHashtagsTest {
+    private static final long HOUR = 3_600_000L;
+
+    @Mock
+    private TrendingHashtagBucketRepository bucketRepository;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private MutableClock clock;
+    private TrendingHashtags trending;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        doAnswer(invocation -> {
+            invocation.<java.util.function.Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        // 1h buckets, 24h window, 1h half-life
+        trending = new TrendingHashtags(bucketRepository, jdbcTemplate, transactionTemplate, clock, 60, 24, 60, 0.5);
+    }
+
+    @Test
+    void top_shouldRankRecentUsesAboveOlderOnes() {
+        trending.recordUse(List.of("java", "java", "java"));
+        clock.advance(2 * HOUR);
+        trending.recordUse(List.of("spring", "spring"));
+        trending.recompute();
+
+        List<TrendingHashtag> top = trending.top(10);
+        assertEquals(List.of("spring", "java"), top.stream().map(TrendingHashtag::getHashtag).toList());
+        assertEquals(2.0, top.get(0).getScore(), 1e-9);
+        assertEquals(0.75, top.get(1).getScore(), 1e-9);
+    }
+
+    @Test
+    void top_shouldDropHashtagsOutsideTheWindow() {
+        trending.recordUse(List.of("java"));
+        clock.advance(24 * HOUR);
+        trending.recordUse(List.of("kotlin"));
+        trending.recompute();
+
+        assertEquals(List.of("kotlin"), trending.top(10).stream().map(TrendingHashtag::getHashtag).toList());
+    }
+
+    @Test
+    void top_shouldLimitResults() {
+        trending.recordUse(List.of("a", "b", "b", "c", "c", "c"));
+        trending.recompute();
+
+        assertEquals(List.of("c", "b"), trending.top(2).stream().map(TrendingHashtag::getHashtag).toList());
+    }
+
+    @Test
+    void recordLike_shouldUseLikeWeight() {
+        trending.recordLike(List.of("java"));
+        trending.recompute();
+
+        assertEquals(0.5, trending.top(1).get(0).getScore(), 1e-9);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void snapshotAndRestore_shouldRoundTripLiveBuckets() {
+        trending.recordUse(List.of("java", "java"));
+        clock.advance(HOUR);
+        trending.recordUse(List.of("java"));
+        trending.snapshot();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO trending_hashtag_buckets"), rows.capture());
+        verify(jdbcTemplate).update(startsWith("DELETE FROM trending_hashtag_buckets"), eq(clock.millis() / HOUR - 24));
+        verifyNoInteractions(bucketRepository);
+        assertEquals(2, rows.getValue().size());
+
+        TrendingHashtags restored = new TrendingHashtags(bucketRepository, jdbcTemplate, transactionTemplate, clock, 60, 24, 60, 0.5);
+        when(bucketRepository.findByBucketGreaterThan(anyLong())).thenReturn(rows.getValue().stream()
+                .map(row -> new TrendingHashtagBucket((String) row[0], (long) row[1], (double) row[2]))
+                .toList());
+        restored.restore();
+
+        assertEquals(2.0, restored.top(1).get(0).getScore(), 1e-9);
+    }
+
+    @Test
+    void close_shouldSnapshotLiveBuckets() {
+        trending.recordUse(List.of("java"));
+
+        trending.close();
+
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<Object[]> rows) -> rows.size() == 1));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.pingpost.pingpostBackend.service;
+
+import com.pingpost.pingpostBackend.repository.UserRepository;
+import com.pingpost.pingpostBackend.repository.projection.UserSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserSearchIndexTest {
+    @Mock
+    private UserRepository userRepository;
+
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        index = new UserSearchIndex(userRepository);
+        when(userRepository.findAllSummaries()).thenReturn(List.of(
+                new UserSummary(1L, "jonathan", "Jonathan Smith", null),
+                new UserSummary(2L, "jon", "Jon Doe", null),
+                new UserSummary(3L, "marta", "Marta Jonsdottir", null),
+                new UserSummary(4L, "alice", "Alice Liddell", null),
+                new UserSummary(5L, "albert", null, null)));
+        index.refresh();
+    }
+
+    @Test
+    void search_shouldRankUsernameMatchesAboveFullNameMatches() {
+        assertEquals(List.of("jon", "jonathan", "marta"), usernames(index.search("jon", 10)));
+        assertEquals(List.of("jon"), usernames(index.search("@JON", 1)));
+    }
+
+    @Test
+    void search_shouldTolerateATypo() {
+        assertEquals("jonathan", usernames(index.search("jonathon", 10)).get(0));
+        assertEquals(List.of("alice"), usernames(index.search("lidell", 10)));
+    }
+
+    @Test
+    void search_shouldUsePrefixForShortQueries() {
+        assertEquals(List.of("alice", "albert"), usernames(index.search("al", 10)));
+        assertTrue(index.search(" ", 10).isEmpty());
+    }
+
+    @Test
+    void upsert_shouldBeSearchableBeforeNextRefreshAndShadowOldEntry() {
+        index.upsert(new UserSummary(6L, "newcomer", "Grace Hopper", null));
+        index.upsert(new UserSummary(4L, "alice", "Alice Kingsleigh", null));
+
+        assertEquals(List.of("newcomer"), usernames(index.search("hopper", 10)));
+        assertTrue(index.search("liddell", 10).isEmpty());
+        assertEquals(List.of("alice"), usernames(index.search("kingsleigh", 10)));
+
+        index.refresh();
+        // The overlay is dropped once a rebuild has read the table
+        assertTrue(index.search("hopper", 10).isEmpty());
+    }
+
+    @Test
+    void refresh_shouldKeepUpsertsCommittedWhileTheTableIsRead() {
+        when(userRepository.findAllSummaries()).thenAnswer(invocation -> {
+            // Registered after the query's snapshot was taken, so not in its result
+            index.upsert(new UserSummary(6L, "newcomer", "Grace Hopper", null));
+            return List.of(new UserSummary(1L, "jonathan", "Jonathan Smith", null));
+        });
+
+        index.refresh();
+
+        assertEquals(List.of("newcomer"), usernames(index.search("hopper", 10)));
+    }
+
+    private static List<String> usernames(List<UserSummary> users) {
+        return users.stream().map(UserSummary::username).toList();
+    }
+}
@@ -2,26 +2,38 @@ package com.pingpost.pingpostBackend.service;
 
 import com.pingpost.pingpostBackend.dto.BlogResponse;
 import com.pingpost.pingpostBackend.dto.CommentResponse;
+import com.pingpost.pingpostBackend.dto.PaginatedResponse;
+import com.pingpost.pingpostBackend.dto.PublicUserProfileDTO;
 import com.pingpost.pingpostBackend.dto.UserProfileRequest;
 import com.pingpost.pingpostBackend.entity.Blog;
 import com.pingpost.pingpostBackend.entity.Comment;
+import com.pingpost.pingpostBackend.entity.Follow;
+import com.pingpost.pingpostBackend.entity.FollowId;
 import com.pingpost.pingpostBackend.entity.Like;
 import com.pingpost.pingpostBackend.entity.User;
 import com.pingpost.pingpostBackend.repository.BlogRepository;
 import com.pingpost.pingpostBackend.repository.CommentRepository;
+import com.pingpost.pingpostBackend.repository.FollowRepository;
 import com.pingpost.pingpostBackend.repository.LikeRepository;
 import com.pingpost.pingpostBackend.repository.UserRepository;
+import com.pingpost.pingpostBackend.repository.projection.UserSummary;
+import com.pingpost.pingpostBackend.security.PrincipalResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.HashSet;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class UserServiceTest {
@@ -33,6 +45,18 @@ class UserServiceTest {
     private LikeRepository likeRepository;
     @Mock
     private CommentRepository commentRepository;
+    @Mock
+    private FollowRepository followRepository;
+    @Mock
+    private BlogResponseAssembler blogResponseAssembler;
+    @Mock
+    private BlogResponseCache blogResponseCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PrincipalResolver principalResolver;
+    @Mock
+    private UserSearchIndex userSearchIndex;
 
     @InjectMocks
     private UserService userService;
@@ -52,15 +76,11 @@ class UserServiceTest {
         user.setId(1L);
         user.setUsername("testuser");
         user.setFullName("Test User");
-        user.setFollowers(new HashSet<>());
-        user.setFollowing(new HashSet<>());
         
         otherUser = new User();
         otherUser.setId(2L);
         otherUser.setUsername("otheruser");
         otherUser.setFullName("Other User");
-        otherUser.setFollowers(new HashSet<>());
-        otherUser.setFollowing(new HashSet<>());
         
         blog = new Blog();
         blog.setId(1L);
@@ -85,21 +105,34 @@ class UserServiceTest {
     }
 
     @Test
-    void updateProfile_shouldUpdateUser() {
-        when(userRepository.save(any(User.class))).thenReturn(user);
+    void updateProfile_shouldUpdateManagedUserAndEvictPrincipal() {
+        User principal = new User();
+        principal.setId(1L);
+        principal.setUsername("testuser");
+        user.setPassword("encoded");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
 
-        User updated = userService.updateProfile(user, profileRequest);
+        User updated = userService.updateProfile(principal, profileRequest);
 
+        assertSame(user, updated);
         assertEquals("Updated Name", updated.getFullName());
         assertEquals("Updated Bio", updated.getBio());
         assertEquals("new-pic.jpg", updated.getProfilePicture());
+        assertEquals("encoded", updated.getPassword());
+        assertNull(principal.getFullName());
+        verify(principalResolver, times(1)).evict("testuser");
+        verify(userSearchIndex, times(1)).upsert(new UserSummary(user.getId(), user.getUsername(), "Updated Name", "new-pic.jpg"));
     }
 
     @Test
     void getLikedBlogs_shouldReturnBlogList() {
-        when(likeRepository.findByUser(user)).thenReturn(List.of(like));
-        when(likeRepository.countByBlog(blog)).thenReturn(5L);
-        when(commentRepository.countByBlog(blog)).thenReturn(3L);
+        BlogResponse blogResponse = new BlogResponse();
+        blogResponse.setId(1L);
+        blogResponse.setTitle("Test Blog");
+        when(likeRepository.findBlogIdsByUser(user)).thenReturn(List.of(1L));
+        when(blogResponseAssembler.toResponsesByIds(List.of(1L))).thenReturn(List.of(blogResponse));
+        when(blogResponseCache.getAll(eq(List.of(1L)), any()))
+                .thenAnswer(invocation -> invocation.<Function<List<Long>, List<BlogResponse>>>getArgument(1).apply(List.of(1L)));
 
         List<BlogResponse> responses = userService.getLikedBlogs(user);
 
@@ -119,37 +152,50 @@ class UserServiceTest {
     }
 
     @Test
-    void followUser_shouldAddFollower() {
-        when(userRepository.findByUsername("otheruser")).thenReturn(Optional.of(otherUser));
-        when(userRepository.save(any(User.class))).thenReturn(otherUser);
+    void followUser_shouldInsertEdgeById() {
+        when(userRepository.findIdByUsername("otheruser")).thenReturn(Optional.of(2L));
+        when(followRepository.existsById(new FollowId(2L, 1L))).thenReturn(false);
 
         userService.followUser(user, "otheruser");
 
-        verify(userRepository, times(1)).save(otherUser);
+        verify(followRepository, times(1)).save(any(Follow.class));
+        verify(eventPublisher, times(1)).publishEvent(new FollowChangedEvent(1L, 2L, true));
+        verify(userRepository, never()).findByUsername(any());
+    }
+
+    @Test
+    void followUser_shouldIgnoreExistingEdge() {
+        when(userRepository.findIdByUsername("otheruser")).thenReturn(Optional.of(2L));
+        when(followRepository.existsById(new FollowId(2L, 1L))).thenReturn(true);
+
+        userService.followUser(user, "otheruser");
+
+        verify(followRepository, never()).save(any(Follow.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     void followUser_shouldNotFollowSelf() {
         userService.followUser(user, "testuser");
 
-        verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(followRepository);
     }
 
     @Test
-    void unfollowUser_shouldRemoveFollower() {
-        otherUser.getFollowers().add(user);
-        when(userRepository.findByUsername("otheruser")).thenReturn(Optional.of(otherUser));
-        when(userRepository.save(any(User.class))).thenReturn(otherUser);
+    void unfollowUser_shouldDeleteEdgeByPair() {
+        when(userRepository.findIdByUsername("otheruser")).thenReturn(Optional.of(2L));
+        when(followRepository.deleteByPair(2L, 1L)).thenReturn(1);
 
         userService.unfollowUser(user, "otheruser");
 
-        verify(userRepository, times(1)).save(otherUser);
+        verify(followRepository, times(1)).deleteByPair(2L, 1L);
+        verify(eventPublisher, times(1)).publishEvent(new FollowChangedEvent(1L, 2L, false));
     }
 
     @Test
     void getFollowersCount_shouldReturnCount() {
-        otherUser.getFollowers().add(user);
-        when(userRepository.findByUsername("otheruser")).thenReturn(Optional.of(otherUser));
+        when(userRepository.findIdByUsername("otheruser")).thenReturn(Optional.of(2L));
+        when(followRepository.countByIdUserId(2L)).thenReturn(1L);
 
         long count = userService.getFollowersCount("otheruser");
 
@@ -158,8 +204,8 @@ class UserServiceTest {
 
     @Test
     void getFollowingCount_shouldReturnCount() {
-        user.getFollowing().add(otherUser);
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+        when(userRepository.findIdByUsername("testuser")).thenReturn(Optional.of(1L));
+        when(followRepository.countByIdFollowerId(1L)).thenReturn(1L);
 
         long count = userService.getFollowingCount("testuser");
 
@@ -168,8 +214,8 @@ class UserServiceTest {
 
     @Test
     void isFollowing_shouldReturnTrue() {
-        otherUser.getFollowers().add(user);
-        when(userRepository.findByUsername("otheruser")).thenReturn(Optional.of(otherUser));
+        when(userRepository.findIdByUsername("otheruser")).thenReturn(Optional.of(2L));
+        when(followRepository.existsById(new FollowId(2L, 1L))).thenReturn(true);
 
         boolean isFollowing = userService.isFollowing(user, "otheruser");
 
@@ -178,10 +224,25 @@ class UserServiceTest {
 
     @Test
     void isFollowing_shouldReturnFalse() {
-        when(userRepository.findByUsername("otheruser")).thenReturn(Optional.of(otherUser));
+        when(userRepository.findIdByUsername("otheruser")).thenReturn(Optional.of(2L));
 
         boolean isFollowing = userService.isFollowing(user, "otheruser");
 
         assertFalse(isFollowing);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getFollowers_shouldReturnRequestedPage() {
+        when(userRepository.findIdByUsername("otheruser")).thenReturn(Optional.of(2L));
+        when(followRepository.findFollowersOf(eq(2L), any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(List.of(user), invocation.getArgument(1), 21));
+
+        PaginatedResponse<PublicUserProfileDTO> page = userService.getFollowers("otheruser", 1, 20);
+
+        assertEquals(1, page.getContent().size());
+        assertEquals("testuser", page.getContent().get(0).getUsername());
+        assertEquals(1, page.getNumber());
+        assertEquals(2, page.getTotalPages());
+        assertEquals(21L, page.getTotalElements());
+    }
+}